@@ -2,9 +2,31 @@ package DSON;
 
 import TestSuite.*;
 
+import java.io.*;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.*;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A utility class containing all DSON.DSON functionality.
@@ -15,7 +37,7 @@ public class DSON {
      * Serializes an object into standard-JSON format.
      * This function inspects the object's fields and collates it into a JSON string.
      * <br>
-     * Do note that non-public fields and fields marked with {@code @DSON.DoNotSerialize} will not be included.
+     * Do note that static and transient fields, and fields marked with {@code @DSON.DoNotSerialize} will not be included.
      * <br>
      * Do also note that fields mraked with the {@code DSON.Rename} annotation will be renamed to the user-provided value.
      * @implNote all fields will be lowercased by default. For example, if you have a field named "intList", it will be reflected as "intlist" in the JSON string.
@@ -25,46 +47,136 @@ public class DSON {
      * @author MaximusHartanto
      */
     public static String serialize(Object o) throws DSONException{
-        StringBuilder result = new StringBuilder();
-        result.append("{");
+        CharSink sink = new CharSink(null);
         try {
-            Class<?> objectClass = o.getClass();
-            //Gets metadata of all the fields in the object, including its name
-            int success = 0;
-            Field[] fields = objectClass.getDeclaredFields();
-            for (Field field : fields){
-                //Bypassing privacy
-                if (!field.trySetAccessible()){
-                    continue;
-                }
-                //Do not parse a field that the user does not want parsed
-                if (field.isAnnotationPresent(DoNotSerialize.class))
-                    continue;
-                //Get the field name and rename it if told to
-                String fieldName = (
-                        field.isAnnotationPresent(Rename.class)
-                                ? field.getAnnotation(Rename.class).value()
-                                : field.getName().toLowerCase()
-                );
-                //Parses the object the field contains
-                String value = getValue(field.get(o));
-                result.append(fieldName).append(":").append(value).append(",");
-                success++;
-            }
-            //Removes the last comma
-            //Why? It is not that easy to find out if the current field will be the last one, due to the annotations and publicity check
-            //Sure it can be precalculated, but this is the most convenient way
-            //Another approach is to add all the fields to an arraylist before printing to the stringbuilder
-            if (success > 0) {
-                result.deleteCharAt(result.length() - 1);
-            }
+            writeObject(o, sink);
+        }
+        catch(DSONException e){
+            throw e;
         }
         catch(Exception e){
-            e.printStackTrace();
-            throw new DSONException();
+            throw new DSONException(e);
+        }
+        return sink.toString();
+    }
+
+    /**
+     * Serializes an object into standard-JSON format, writing it straight into an {@code Appendable} (e.g. a {@code Writer} or a {@code StringBuilder}).
+     * The JSON is emitted in a single pass through a small fixed-size buffer, so no String is built for the object or any of its nested values.
+     * This does not hold for collections at or above the parallel threshold, whose whole JSON is buffered in memory before it is written. See {@code setParallelThreshold()}.
+     * <br><br>
+     * The output is identical to the one of {@code serialize(Object)}. The Appendable is neither flushed nor closed.
+     * @param o the object to be serialized into JSON.
+     * @param out the Appendable the JSON is written to.
+     * @throws DSONException if something has gone wrong during the serialization process, including failures to write to {@code out}.
+     * @author MaximusHartanto
+     */
+    public static void serialize(Object o, Appendable out) throws DSONException{
+        CharSink sink = new CharSink(Objects.requireNonNull(out));
+        try {
+            writeObject(o, sink);
+            sink.flush();
+        }
+        catch(DSONException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new DSONException(e);
+        }
+    }
+
+    /**
+     * Serializes an object into standard-JSON format, writing it straight into an {@code OutputStream} as UTF-8.
+     * Like {@code serialize(Object, Appendable)}, this uses a constant amount of extra memory regardless of the size of the object, unless it holds collections
+     * at or above the parallel threshold, which are buffered in memory before they are written. See {@code setParallelThreshold()}.
+     * The output is encoded as it is written, so there is no separate encoder pass.
+     * <br><br>
+     * The stream is not closed.
+     * @param o the object to be serialized into JSON.
+     * @param out the stream the JSON is written to.
+     * @throws DSONException if something has gone wrong during the serialization process, including failures to write to {@code out}.
+     * @author MaximusHartanto
+     */
+    public static void serialize(Object o, OutputStream out) throws DSONException{
+        ByteSink sink = new ByteSink(Objects.requireNonNull(out));
+        try {
+            writeObject(o, sink);
+            sink.flush();
         }
-        result.append("}");
-        return result.toString();
+        catch(DSONException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new DSONException(e);
+        }
+    }
+
+    /**
+     * Serializes an object into standard-JSON format, encoded as UTF-8.
+     * This is the same as {@code serialize(o).getBytes(StandardCharsets.UTF_8)}, but the bytes are written directly, without building a String first.
+     * @param o the object to be serialized into JSON.
+     * @return the UTF-8 bytes of the JSON-formatted object.
+     * @throws DSONException if something has gone wrong during the serialization process.
+     * @author MaximusHartanto
+     */
+    public static byte[] serializeToBytes(Object o) throws DSONException{
+        ByteSink sink = new ByteSink(null);
+        try {
+            writeObject(o, sink);
+        }
+        catch(DSONException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new DSONException(e);
+        }
+        return sink.toByteArray();
+    }
+
+    /**
+     * Writes an object as a JSON object, i.e. its fields as key-value pairs wrapped in braces.
+     * @param o the object to be serialized.
+     * @param out the sink the JSON is written to.
+     * @throws DSONException if something has gone wrong during the serialization process.
+     */
+    private static void writeObject(Object o, Sink out) throws DSONException{
+        out.writeRaw('{');
+        //Gets metadata of all the fields in the object, including its name (cached per class)
+        ClassLayout layout = ClassLayout.of(o.getClass());
+        AccessMode mode = accessMode;
+        GeneratedCodec codec = (mode == AccessMode.GENERATED) ? layout.codec() : null;
+        if (codec != null){
+            //The generated codec writes all the fields in one go, and looks their prefixes up by slot
+            FieldInfo[] outer = out.fields;
+            out.fields = layout.fields;
+            codec.write(o, out);
+            out.fields = outer;
+            out.writeRaw('}');
+            return;
+        }
+        FieldInfo[] fields = layout.fields;
+        for (int i = 0; i < fields.length; i++){
+            FieldInfo field = fields[i];
+            FieldAccessor accessor = field.accessor(mode);
+            out.writeFieldPrefix(field);
+            //Primitive fields are written directly, without boxing them first
+            Class<?> type = field.type;
+            if (type == int.class){
+                out.writeInt(accessor.getInt(o));
+            } else if (type == double.class){
+                out.writeDouble(accessor.getDouble(o));
+            } else if (type == float.class){
+                out.writeFloat(accessor.getFloat(o));
+            } else if (type == boolean.class){
+                out.writeBoolean(accessor.getBoolean(o));
+            } else if (type == char.class){
+                out.writeChar(accessor.getChar(o));
+            } else {
+                //Parses the object the field contains
+                writeValue(accessor.get(o), out);
+            }
+        }
+        out.writeRaw('}');
     }
 
     /**
@@ -79,103 +191,342 @@ public class DSON {
      * @author MaximusHartanto
      */
     public static String getValue(Object o) throws DSONException {
-        //Check if primitive type
-        Class<?>[] primitiveTypes = {Integer.class, Double.class, Float.class, Boolean.class};
-        if (Arrays.stream(primitiveTypes).anyMatch(primitive -> primitive.isInstance(o))) {
-            return o.toString();
-        } else if (o instanceof String) {
+        CharSink sink = new CharSink(null);
+        try {
+            writeValue(o, sink);
+        }
+        catch(DSONException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new DSONException(e);
+        }
+        return sink.toString();
+    }
+
+    /**
+     * Writes an object in JSON-Object form. This is the streaming counterpart of {@code getValue()}: nested values are written straight into the sink instead of being returned as Strings.
+     * @param o the object of which the value is written.
+     * @param out the sink the JSON is written to.
+     * @throws DSONException something has went wrong during the serialization process.
+     */
+    private static void writeValue(Object o, Sink out) throws DSONException {
+        //Primitive types are written straight into the sink, without going through toString()
+        if (o instanceof Integer i) {
+            out.writeInt(i);
+        } else if (o instanceof Double d) {
+            out.writeDouble(d);
+        } else if (o instanceof Float f) {
+            out.writeFloat(f);
+        } else if (o instanceof Boolean b) {
+            out.writeBoolean(b);
+        } else if (o instanceof Long l) {
+            out.writeLong(l);
+        } else if (o instanceof Short || o instanceof Byte) {
+            out.writeInt(((Number) o).intValue());
+        } else if (o instanceof String s) {
             //Wrap around quotes
-            return String.format("\"%s\"", o);
-        } else if (o instanceof Character) {
-            return String.format("'%s'", o);
+            out.writeString(s);
+        } else if (o instanceof Character c) {
+            out.writeChar(c);
         } else if (o.getClass().isArray()) {
-            StringBuilder result = new StringBuilder();
-            result.append("[");
-            int up = 0, down = Array.getLength(o);
-            while (down > 0) {
-                result.append(getValue(Array.get(o, up)));
-                if (down != 1)
-                    result.append(",");
-                up++;
-                down--;
-            }
-            result.append("]");
-            return result.toString();
+            int length = Array.getLength(o);
+            if (length >= parallelThreshold) {
+                writeParallel(o, false, length, out);
+            } else {
+                out.writeRaw('[');
+                writeElements(o, false, 0, length, out);
+                out.writeRaw(']');
+            }
         } else if (o instanceof List<?> ls){
             //Yes, these two cases boil down to recursive calls. This is done for simplicity's sake
-            return getValue(ls.toArray());
+            writeValue(ls.toArray(), out);
         } else if (o instanceof Set<?> s) {
-            return getValue(s.toArray());
+            writeValue(s.toArray(), out);
         } else if (o instanceof Map<?, ?> mp) {
             //Maps are lists of entry objects. See test number 5 for an example.
-            StringBuilder result = new StringBuilder();
-            result.append('[');
-            //Don't ask
-            AtomicInteger down = new AtomicInteger(mp.size());
-            mp.forEach((i, j) -> {
-                try {
-                    //Ignore this gigantic shishkebab of code over here
-                    result.append('{').append("key:").append(getValue(i)).append(',').append("value:").append(getValue(j)).append('}');
-                    if (down.getAndDecrement() != 1){
-                        result.append(',');
-                    }
-                } catch (DSONException e) {
-                    throw new RuntimeException();
-                }
-            });
-            result.append(']');
-            return result.toString();
+            if (mp.size() >= parallelThreshold) {
+                //The entries are copied out first, so that they can be split up by index
+                Object[] entries = mp.entrySet().toArray();
+                writeParallel(entries, true, entries.length, out);
+                return;
+            }
+            out.writeRaw('[');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : mp.entrySet()){
+                if (!first)
+                    out.writeRaw(',');
+                first = false;
+                writeEntry(entry, out);
+            }
+            out.writeRaw(']');
         } else {
-            return serialize(o);
+            writeObject(o, out);
         }
     }
 
     /**
-     * Pretty-prints a JSON string for pretty-viewing. This will print out the JSON string with properly formatted newlines and spaces.
-     * <br><br>
-     * @implNote  This function is still erroneous, as quote-checking has not been implemented yet.
-     * @param json the JSON string to be pretty-printed.
+     * Writes a Map entry as a {@code {key:..., value:...}} object.
+     * @param entry the entry to be written.
+     * @param out the sink the JSON is written to.
+     * @throws DSONException something has went wrong during the serialization process.
+     */
+    private static void writeEntry(Map.Entry<?, ?> entry, Sink out) throws DSONException {
+        out.writeRaw("{key:");
+        writeValue(entry.getKey(), out);
+        out.writeRaw(",value:");
+        writeValue(entry.getValue(), out);
+        out.writeRaw('}');
+    }
+
+    /**
+     * Writes a range of the elements of an array, without the surrounding brackets. A comma is written before every element except the very first one of the array,
+     * so writing consecutive ranges one after another gives the same output as writing the whole array at once.
+     * @param elements the array, which may be an array of primitives.
+     * @param entries whether the array holds the entries of a Map, which are written as {@code {key:..., value:...}} objects.
+     * @param from the index of the first element to be written.
+     * @param to the index right after the last element to be written.
+     * @param out the sink the JSON is written to.
+     * @throws DSONException something has went wrong during the serialization process.
+     */
+    private static void writeElements(Object elements, boolean entries, int from, int to, Sink out) throws DSONException {
+        if (elements instanceof Object[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                if (entries)
+                    writeEntry((Map.Entry<?, ?>) arr[i], out);
+                else
+                    writeValue(arr[i], out);
+            }
+        } else {
+            writePrimitiveArray(elements, from, to, out);
+        }
+    }
+
+    /**
+     * Writes an array (or the entries of a Map) by splitting its elements into chunks, which are written on the common ForkJoinPool, each into a sink of its own.
+     * The chunks are then appended to the output in order, so the output is the same as the one of the sequential mode. See {@code setParallelThreshold()}.
+     * @param elements the array, which may be an array of primitives.
+     * @param entries whether the array holds the entries of a Map.
+     * @param length the number of elements in the array.
+     * @param out the sink the JSON is written to.
+     * @throws DSONException something has went wrong during the serialization process.
+     */
+    private static void writeParallel(Object elements, boolean entries, int length, Sink out) throws DSONException {
+        //A few chunks per thread, so that a thread which finishes early can pick up another one
+        int chunks = Math.min(length, ForkJoinPool.getCommonPoolParallelism() * 4);
+        ChunkWriter[] writers = new ChunkWriter[chunks];
+        //Opened before the chunks are constructed, so that sinks which keep track of the nesting hand it on to them
+        out.writeRaw('[');
+        for (int c = 0; c < chunks; c++) {
+            int from = (int) ((long) length * c / chunks);
+            int to = (int) ((long) length * (c + 1) / chunks);
+            writers[c] = new ChunkWriter(elements, entries, from, to, out.newChunk());
+            writers[c].fork();
+        }
+        //Every chunk is waited for before any failure is thrown, so that none is left running in the background once this returns
+        for (ChunkWriter writer : writers)
+            writer.quietlyJoin();
+        for (ChunkWriter writer : writers) {
+            writer.join();
+            if (writer.failure != null)
+                throw writer.failure;
+            out.writeChunk(writer.sink);
+        }
+        out.writeRaw(']');
+    }
+
+    /**
+     * Writes one chunk of the elements of an array into a sink of its own, see {@code writeParallel()}.
      * @author MaximusHartanto
      */
-    public static void prettyPrint(String json){
-        StringBuilder result = new StringBuilder();
-        int tl = 0;
-        //Why? Commas should be newlined in JSON objects, but not in JSON lists. This stack helps us see if we are currently in a list or in a JSON object.
-        Stack<Character> st = new Stack<>();
-        for (int i=0;i<json.length();i++){
-            if (json.charAt(i) == '['){
-                st.push('[');
+    private static final class ChunkWriter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object elements;
+        private final boolean entries;
+        private final int from, to;
+        private final Sink sink;
+        /**
+         * The exception thrown while writing the chunk, if any. It is handed back to the caller, as a task cannot throw checked exceptions.
+         */
+        private DSONException failure;
+
+        ChunkWriter(Object elements, boolean entries, int from, int to, Sink sink){
+            this.elements = elements;
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute(){
+            try {
+                writeElements(elements, entries, from, to, sink);
+            }
+            catch(DSONException e){
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Writes an array of primitives, e.g. an {@code int[]}. Each array type has its own loop, so the elements are read straight out of the array instead of being boxed one by one.
+     * Like {@code writeElements()}, only a range of the elements is written, without the surrounding brackets.
+     * @param o the array to be written.
+     * @param from the index of the first element to be written.
+     * @param to the index right after the last element to be written.
+     * @param out the sink the JSON is written to.
+     */
+    private static void writePrimitiveArray(Object o, int from, int to, Sink out) {
+        if (o instanceof int[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeInt(arr[i]);
             }
-            else if (json.charAt(i) == ']'){
-                st.pop();
+        } else if (o instanceof double[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeDouble(arr[i]);
             }
-            if (json.charAt(i) == '}'){
-                st.pop();
-                result.append('\n').append(getTab(--tl));
+        } else if (o instanceof float[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeFloat(arr[i]);
             }
-            result.append(json.charAt(i));
-            if (json.charAt(i) == '{'){
-                st.push('{');
-                result.append('\n').append(getTab(++tl));
+        } else if (o instanceof long[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeLong(arr[i]);
             }
-            if (json.charAt(i) == ',' && st.peek() == '{'){
-                result.append('\n').append(getTab(tl));
+        } else if (o instanceof boolean[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeBoolean(arr[i]);
             }
-            if (json.charAt(i) == ':'){
-                result.append(' ');
+        } else if (o instanceof char[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeChar(arr[i]);
             }
+        } else if (o instanceof short[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeInt(arr[i]);
+            }
+        } else if (o instanceof byte[] arr) {
+            for (int i = from; i < to; i++) {
+                if (i > 0)
+                    out.writeRaw(',');
+                out.writeInt(arr[i]);
+            }
+        }
+    }
+
+    /**
+     * Pretty-prints a JSON string for pretty-viewing. This will print out the JSON string with properly formatted newlines and spaces.
+     * <br><br>
+     * This is {@code reformat()} into {@code System.out}, with 4 spaces per level of indentation, followed by a newline.
+     * @param json the JSON string to be pretty-printed.
+     * @author MaximusHartanto
+     */
+    public static void prettyPrint(String json){
+        Writer out = new OutputStreamWriter(System.out);
+        try {
+            reformat(new StringReader(json), out, 4);
+            out.flush();
+        }
+        catch(DSONException | IOException e){
+            //Neither a StringReader nor System.out ever fail
+            throw new IllegalStateException(e);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Serializes an object into pretty-printed JSON, in the format of {@code prettyPrint()}, writing it straight into an {@code Appendable}.
+     * The indentation is added as the JSON is written, so there is no second pass over a compact string. The Appendable is neither flushed nor closed.
+     * @param o the object to be serialized into JSON.
+     * @param out the Appendable the JSON is written to.
+     * @param indent the number of spaces each level of indentation is made of.
+     * @throws DSONException if something has gone wrong during the serialization process, including failures to write to {@code out}.
+     * @throws IllegalArgumentException if indent is negative.
+     * @author MaximusHartanto
+     */
+    public static void serialize(Object o, Appendable out, int indent) throws DSONException{
+        CharSink sink = new CharSink(Objects.requireNonNull(out));
+        PrettySink pretty = new PrettySink(sink, indent);
+        try {
+            writeObject(o, pretty);
+            pretty.flush();
+        }
+        catch(DSONException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new DSONException(e);
         }
-        System.out.println(result);
     }
 
     /**
-     * Returns spacing that emulates 4-width tabs i times.
-     * @param i the amount of tabs to be emulated.
-     * @return a string containing the whitespace of length i * 4.
+     * Pretty-prints a JSON document read from a {@code Reader} into a {@code Writer}, in the format of {@code prettyPrint()}.
+     * The document is reformatted as it is read, in constant memory apart from one flag per level of nesting, so documents of any size can be reformatted.
+     * <br><br>
+     * Whitespace outside of Strings and chars is dropped, and everything within them is copied as-is. The document is not validated.
+     * Neither the Reader nor the Writer is closed, and the Writer is not flushed.
+     * @param in the Reader the JSON document is read from.
+     * @param out the Writer the pretty-printed JSON is written to.
+     * @param indent the number of spaces each level of indentation is made of.
+     * @throws DSONException if reading from {@code in} or writing to {@code out} fails.
+     * @throws IllegalArgumentException if indent is negative.
      * @author MaximusHartanto
      */
-    private static String getTab(int i){
-        return " ".repeat(i*4);
+    public static void reformat(Reader in, Writer out, int indent) throws DSONException{
+        Objects.requireNonNull(in);
+        CharSink sink = new CharSink(Objects.requireNonNull(out));
+        PrettySink pretty = new PrettySink(sink, indent);
+        char[] buf = new char[8192];
+        //The quote of the String or char the reader is currently within (0 if there is none), and whether the last character was an unescaped backslash within it
+        char quote = 0;
+        boolean escaped = false;
+        try {
+            int n;
+            while ((n = in.read(buf)) >= 0){
+                for (int i = 0; i < n; i++){
+                    char c = buf[i];
+                    if (quote != 0){
+                        if (escaped)
+                            escaped = false;
+                        else if (c == '\\')
+                            escaped = true;
+                        else if (c == quote)
+                            quote = 0;
+                        sink.writeRaw(c);
+                    } else if (c == '\"' || c == '\''){
+                        quote = c;
+                        sink.writeRaw(c);
+                    } else if (c != ' ' && c != '\n' && c != '\r' && c != '\t'){
+                        pretty.writeRaw(c);
+                    }
+                }
+            }
+            pretty.flush();
+        }
+        catch(IOException e){
+            throw new DSONException(e);
+        }
+        catch(UncheckedIOException e){
+            throw new DSONException(e.getCause());
+        }
     }
 
     /**
@@ -189,350 +540,5065 @@ public class DSON {
     }
 
     /**
-     * Exceptions related to DSON.DSON serialization.
+     * Gets the codec of a class, which decodes JSON into values of the class and encodes them back. Codecs are built once per class, and can be shared by any number of threads.
+     * @param type the class of the values.
+     * @return the codec of the class.
      * @author MaximusHartanto
      */
-    public static class DSONException extends Exception{
+    public static <T> DSONCodec<T> codec(Class<T> type){
+        return DSONCodec.of(Objects.requireNonNull(type));
     }
 
     /**
-     * An object which contains JSON deserialization methods. DSON.DSON objects are constructed using DSON.DSON's {@code get()} function.
-     * Fields which are non-private and fields that are marked with the {@code DSON.DoNotSerialize} annotation will not be deserialized.
-     * Additionally, fields with the {@code DSON.Rename} annotation will accept a different field name from JSON.
+     * Constructs a lazy tree over a JSON string. Values are only decoded once they are asked for, see {@code DSONNode}.
+     * @param json the JSON string.
+     * @return the root node of the document.
+     * @throws DSONException if the string does not start with a JSON value.
      * @author MaximusHartanto
      */
-    public static class DSONObject {
-        private final Object object;
-        private final Class<?> objectClass;
-        private final List<Field> classFields = new ArrayList<>();
-        private final Map<String,Field> fieldGetter = new HashMap<>();
-        private final Map<Field,Class<?>> typeGetter = new HashMap<>();
-        private final Map<Field,Class<?>[]> mapTypeGetter = new HashMap<>();
-        private Scanner queryParser;
+    public static DSONNode tree(String json) throws DSONException{
+        return DSONNode.root(new CharCursor(json));
+    }
 
-        /**
-         * Constructs an empty DSON.DSON object. This constructor is intended for internal use.
-         */
-        private DSONObject(){
-            object = null;
-            objectClass = null;
+    /**
+     * Constructs a lazy tree over a UTF-8 encoded JSON document. The document is read straight from its bytes, and only the Strings that are asked for are decoded.
+     * A structural index of the document is built up front, so locating the children of a node does not have to scan through their contents.
+     * The array must not be modified while the tree is in use.
+     * @param json the UTF-8 bytes of the document.
+     * @return the root node of the document.
+     * @throws DSONException if the document does not start with a JSON value, or its Strings, brackets and braces do not match up.
+     * @author MaximusHartanto
+     */
+    public static DSONNode tree(byte[] json) throws DSONException{
+        //The structural index lets each child be stepped over in one jump
+        return DSONNode.root(new IndexedCursor(ByteBuffer.wrap(json), StructuralIndex.build(json)));
+    }
+
+    /**
+     * Constructs a new DSONReader over a JSON string. A DSONReader is used for reading JSON token by token, without binding it to an object.
+     * @param json the JSON string to be read.
+     * @return a DSONReader placed at the start of the string.
+     * @author MaximusHartanto
+     */
+    public static DSONReader reader(String json){
+        return new DSONReader(new CharCursor(json), null);
+    }
+
+    /**
+     * Constructs a new DSONReader over a JSON document read from a {@code Reader}. The document is read as it is parsed, through a small buffer.
+     * The Reader is not closed by the DSONReader.
+     * @param in the Reader the JSON document is read from.
+     * @return a DSONReader placed at the start of the document.
+     * @author MaximusHartanto
+     */
+    public static DSONReader reader(Reader in){
+        return new DSONReader(new CharCursor(Objects.requireNonNull(in)), null);
+    }
+
+    /**
+     * Constructs a new DSONReader over a UTF-8 encoded JSON document read from an {@code InputStream}. The stream is not closed by the DSONReader.
+     * @param in the stream the JSON document is read from.
+     * @return a DSONReader placed at the start of the document.
+     * @author MaximusHartanto
+     */
+    public static DSONReader reader(InputStream in){
+        return reader(new InputStreamReader(Objects.requireNonNull(in), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructs a new DSONReader over a UTF-8 encoded JSON file. The file is memory-mapped and read straight from its bytes, and stays open until the DSONReader is closed.
+     * @param file the path of the JSON file.
+     * @return a DSONReader placed at the start of the file.
+     * @throws DSONException if the file cannot be opened.
+     * @author MaximusHartanto
+     */
+    public static DSONReader reader(Path file) throws DSONException{
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            return new DSONReader(new MappedCursor(channel), channel);
+        }
+        catch(IOException e){
+            throw new DSONException(e);
         }
+    }
 
-        /**
-         * Constructs a DSON.DSON object from an object.
-         * When the DSON.DSON object is parsed, the original object's fields will be updated with new values.
-         * @param o the object to be parsed
-         */
-        private DSONObject(Object o){
-            this.object = o;
-            this.objectClass = o.getClass();
-            for (Field field : this.objectClass.getDeclaredFields()){
-                if (!field.trySetAccessible()){
-                    continue;
-                }
-                //This will NPE if the pesky json attempts to access the field
-                if (field.isAnnotationPresent(DoNotSerialize.class))
-                    continue;
-                classFields.add(field);
-                String canonicalizedName = (
-                    field.isAnnotationPresent(Rename.class)
-                        ? field.getAnnotation(Rename.class).value()
-                        : field.getName().toLowerCase()
-                );
-                fieldGetter.put(canonicalizedName, field);
-            }
-            //The performance diff when these two are inlined to the
-            //loop above can also be examined btw
+    /**
+     * Decodes the elements of a top-level JSON array lazily, as a Stream. See {@code stream(byte[], Class)}.
+     * @param json the JSON string, which must hold a single array.
+     * @param elementClass the class of the elements.
+     * @return a sequential Stream of the decoded elements, which may be turned parallel.
+     * @throws DSONException if the string does not hold a single array, or its Strings, brackets and braces do not match up.
+     * @author MaximusHartanto
+     */
+    public static <T> Stream<T> stream(String json, Class<T> elementClass) throws DSONException{
+        return stream(json.getBytes(StandardCharsets.UTF_8), elementClass);
+    }
+
+    /**
+     * Decodes the elements of a top-level JSON array lazily, as a Stream. Elements are only decoded as the Stream pulls them, into fresh objects of the given class,
+     * the same way as nested objects are during {@code DSONObject.parse()}.
+     * <br><br>
+     * The array is pre-scanned for the start of each element with a structural index of the document, so the Stream knows its exact size and can be split at element boundaries.
+     * Calling {@code .parallel()} on it therefore decodes the elements on the common ForkJoinPool, with each split holding its own cursor over the shared, read-only bytes.
+     * Errors within an element are thrown as {@code IllegalStateException}s once it is reached, with the {@code DSONException} as their cause.
+     * The array must not be modified while the Stream is in use.
+     * @param json the UTF-8 bytes of the document, which must hold a single array.
+     * @param elementClass the class of the elements.
+     * @return a sequential Stream of the decoded elements, which may be turned parallel.
+     * @throws DSONException if the document does not hold a single array, or its Strings, brackets and braces do not match up.
+     * @author MaximusHartanto
+     */
+    public static <T> Stream<T> stream(byte[] json, Class<T> elementClass) throws DSONException{
+        return ElementSpliterator.stream(ByteBuffer.wrap(json), elementClass);
+    }
 
-            //These two functions get metadata about list types (annoying type erasure)
-            //E.g. if the field is a List<Integer> these two would get the Integer class out of it
-            getContainerTypes();
-            getMapTypes();
+    /**
+     * Decodes the elements of a top-level array in a UTF-8 encoded JSON file lazily, as a Stream. See {@code stream(byte[], Class)}.
+     * The file is memory-mapped as a whole, and closed again right away as the mapping stays valid. It can therefore be at most 2GB large.
+     * @param file the path of the JSON file, which must hold a single array.
+     * @param elementClass the class of the elements.
+     * @return a sequential Stream of the decoded elements, which may be turned parallel.
+     * @throws DSONException if the file cannot be read or is too large, or does not hold a single array.
+     * @author MaximusHartanto
+     */
+    public static <T> Stream<T> stream(Path file, Class<T> elementClass) throws DSONException{
+        ByteBuffer json;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new DSONException();
+            json = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        catch(IOException e){
+            throw new DSONException(e);
         }
+        return ElementSpliterator.stream(json, elementClass);
+    }
 
-        /**
-         * Populates the typeGetter map with the inner types of {@code Lists} and {@code Sets}. The result would be something like: List<TestSuite.Apple> -> TestSuite.Apple.
-         */
-        private void getContainerTypes(){
-            for (Field field : classFields){
-                Class<?> fieldClass = field.getType();
-                if (isList(fieldClass) || isSet(fieldClass)){
-                    //Yea don't mind this...
-                    ParameterizedType ptype = (ParameterizedType) field.getGenericType();
-                    Class<?> genericClass = (Class<?>) ptype.getActualTypeArguments()[0];
-                    typeGetter.put(field, genericClass);
-                }
-            }
+    /**
+     * Decodes a UTF-8 encoded JSON Lines (NDJSON) file, i.e. one JSON value per line, as a parallel Stream. See {@code readLines(Path, Class, boolean)}.
+     * The Stream keeps the order of the lines.
+     * @param file the path of the JSON Lines file.
+     * @param lineClass the class of the values on each line.
+     * @return a parallel Stream of the decoded values.
+     * @throws DSONException if the file cannot be read, or holds a line longer than 1GB.
+     * @author MaximusHartanto
+     */
+    public static <T> Stream<T> readLines(Path file, Class<T> lineClass) throws DSONException{
+        return readLines(file, lineClass, true);
+    }
+
+    /**
+     * Decodes a UTF-8 encoded JSON Lines (NDJSON) file, i.e. one JSON value per line, as a parallel Stream. Blank lines are skipped.
+     * <br><br>
+     * The file is memory-mapped in segments of up to 1GB which end at a line break, and closed again right away as the mappings stay valid.
+     * The Stream splits the file into byte ranges at line breaks, so its lines are decoded in parallel on the common ForkJoinPool, each split with a cursor of its own.
+     * Errors within a line are thrown as {@code IllegalStateException}s once it is reached, with the {@code DSONException} as their cause.
+     * <br><br>
+     * An unordered Stream does not keep the order of the lines, which lets operations such as {@code collect()} and {@code limit()} skip putting the values back in order.
+     * @param file the path of the JSON Lines file.
+     * @param lineClass the class of the values on each line.
+     * @param ordered whether the Stream keeps the order of the lines.
+     * @return a parallel Stream of the decoded values. It can be turned sequential with {@code sequential()}.
+     * @throws DSONException if the file cannot be read, or holds a line longer than 1GB.
+     * @author MaximusHartanto
+     */
+    public static <T> Stream<T> readLines(Path file, Class<T> lineClass, boolean ordered) throws DSONException{
+        ByteBuffer[] segments;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            segments = LineSpliterator.map(channel, LineSpliterator.SEGMENT_SIZE);
         }
-        /**
-         * Populates the mapTypeGetter map with the inner key & value types of {@code Maps}. The result would be something like: Map<Integer, String> -> {Integer, String}.
-         */
-        private void getMapTypes(){
-            for (Field field : classFields){
-                Class<?> fieldClass = field.getType();
-                if (isMap(fieldClass)){
-                    ParameterizedType ptype = (ParameterizedType) field.getGenericType();
-                    Type[] types = ptype.getActualTypeArguments();
-                    Class<?> keyClass = (Class<?>) types[0];
-                    Class<?> valueClass = (Class<?>) types[1];
-                    mapTypeGetter.put(field, new Class<?>[]{keyClass,valueClass});
-                }
+        catch(IOException e){
+            throw new DSONException(e);
+        }
+        return StreamSupport.stream(new LineSpliterator<>(segments, Objects.requireNonNull(lineClass), ordered), true);
+    }
+
+    /**
+     * Serializes records into UTF-8 encoded JSON Lines (NDJSON), i.e. each record as a JSON object on a line of its own, terminated by a line break.
+     * All records are written through a single buffer, which is emptied into the stream whenever it is full, so the stream is written to in large batches rather than once per record.
+     * <br><br>
+     * The output of each line is identical to the one of {@code serialize()}. The stream is flushed, but not closed.
+     * @param records the records to be serialized.
+     * @param out the stream the JSON Lines are written to.
+     * @throws DSONException if something has gone wrong during the serialization process, including failures to write to {@code out}.
+     * @author MaximusHartanto
+     */
+    public static void writeLines(Iterable<?> records, OutputStream out) throws DSONException{
+        ByteSink sink = new ByteSink(Objects.requireNonNull(out));
+        try {
+            for (Object record : records){
+                writeObject(record, sink);
+                sink.writeRaw('\n');
             }
+            sink.flush();
+            out.flush();
+        }
+        catch(DSONException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new DSONException(e);
         }
+    }
 
+    /**
+     * The ways in which DSON.DSON reads and writes the fields of objects. This can be switched at runtime with {@code setAccessMode()}, e.g. to benchmark one against the other.
+     * @author MaximusHartanto
+     */
+    public enum AccessMode {
         /**
-         * Prepares a String for parsing by removing redundant whitespace. It is not trivial as Strings also contain whitespace.
-         * @param s the string to be pre-formatted.
-         * @return a new properly formatted String.
+         * Fields are accessed through core reflection, i.e. {@code Field.get()} and {@code Field.set()}.
          */
-        private static String fixFormat(String s){
-            StringBuilder result = new StringBuilder();
-            //To be real, the only case we need to handle is strings, since we need to keep all the whitespace within them
-            //TODO create test for this
-            boolean isInsideString = false;
-            for (int i = 0; i < s.length(); i++){
-                char cur = s.charAt(i);
-                //If a string is passed in json, it will be \"
-                //If a string is passed within json, it will be \\\"
-                if (cur == '"' && (i == 0 || !(s.charAt(i-1) == '\\'))){
-                    isInsideString ^= true;
-                } else if (!isInsideString){
-                    if (cur == ' ' || cur == '\n')
+        REFLECTION,
+        /**
+         * Fields are accessed through VarHandles, which are resolved once per field. Primitive fields are read and written without boxing.
+         * Fields which cannot get a VarHandle (e.g. final fields) fall back to reflection.
+         */
+        VAR_HANDLE,
+        /**
+         * A specialized codec class is generated for each class on first use, which reads and writes its fields directly and appends primitive fields without going through {@code getValue()}.
+         * Classes for which no codec can be generated fall back to {@code VAR_HANDLE}.
+         */
+        GENERATED
+    }
+
+    private static volatile AccessMode accessMode = AccessMode.GENERATED;
+
+    /**
+     * Sets the way in which fields are read and written during serialization and deserialization. The default is {@code AccessMode.GENERATED}.
+     * @param mode the access mode to be used from now on.
+     * @author MaximusHartanto
+     */
+    public static void setAccessMode(AccessMode mode){
+        accessMode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * Gets the way in which fields are currently read and written.
+     * @return the current access mode.
+     * @author MaximusHartanto
+     */
+    public static AccessMode getAccessMode(){
+        return accessMode;
+    }
+
+    private static volatile int parallelThreshold = Integer.MAX_VALUE;
+
+    /**
+     * Sets the size from which arrays, Lists, Sets and Maps are serialized in parallel. Their elements are then split into chunks, which are written on the common ForkJoinPool,
+     * each into a buffer of its own, and the buffers are appended in order. The output is exactly the same as when serializing sequentially.
+     * <br><br>
+     * This trades memory for speed: the JSON of such a collection is held in memory in full before any of it is written, even when serializing into an {@code Appendable} or an
+     * {@code OutputStream}, which otherwise only use a small fixed-size buffer. Very large collections therefore need about as much extra memory as their JSON takes.
+     * <br><br>
+     * Parallel serialization is off by default, i.e. the threshold is {@code Integer.MAX_VALUE}. It only pays off for large collections, of tens of thousands of elements or more.
+     * The objects being serialized must not be modified by other threads while they are being written, and Maps must not be modified at all, as their entries are copied out first.
+     * @param size the smallest number of elements a collection must have to be serialized in parallel, at least 1.
+     * @author MaximusHartanto
+     */
+    public static void setParallelThreshold(int size){
+        if (size < 1)
+            throw new IllegalArgumentException();
+        parallelThreshold = size;
+    }
+
+    /**
+     * Gets the size from which collections are currently serialized in parallel.
+     * @return the current parallel threshold.
+     * @author MaximusHartanto
+     */
+    public static int getParallelThreshold(){
+        return parallelThreshold;
+    }
+
+    /**
+     * Exceptions related to DSON.DSON serialization.
+     * @author MaximusHartanto
+     */
+    public static class DSONException extends Exception{
+        public DSONException(){
+        }
+
+        public DSONException(Throwable cause){
+            super(cause);
+        }
+    }
+
+    /**
+     * The output of the serializer. Tokens are written into a sink one after another, in a single pass over the object graph.
+     * <br><br>
+     * This class is only public because generated codecs write to it. It is not meant to be used or extended by hand.
+     * @author MaximusHartanto
+     */
+    public abstract static class Sink {
+        /**
+         * The fields of the object a generated codec is currently writing, see {@code writeFieldPrefix(int)}.
+         */
+        FieldInfo[] fields;
+
+        /**
+         * The escape sequences of the ASCII characters which cannot be written as-is within a String, i.e. quotes, backslashes and control characters. Null for all other characters.
+         */
+        static final String[] ESCAPES = escapes();
+        private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+        private static final long ONES = 0x0101010101010101L, HIGHS = 0x8080808080808080L;
+
+        Sink(){
+        }
+
+        /**
+         * Builds {@code ESCAPES}. The common control characters get their short escape sequences, and the others are escaped as code units.
+         */
+        private static String[] escapes(){
+            String[] escapes = new String[0x80];
+            for (char c = 0; c < 0x20; c++)
+                escapes[c] = String.format("\\u%04x", (int) c);
+            escapes['\b'] = "\\b";
+            escapes['\t'] = "\\t";
+            escapes['\n'] = "\\n";
+            escapes['\f'] = "\\f";
+            escapes['\r'] = "\\r";
+            escapes['\"'] = "\\\"";
+            escapes['\\'] = "\\\\";
+            return escapes;
+        }
+
+        /**
+         * Finds the next byte which has to be escaped within a String, looking at eight bytes at a time.
+         * @param bytes the bytes of the String.
+         * @param from the index the search starts at.
+         * @param to the index the search ends at.
+         * @return the index of the byte, or {@code to} if there is none.
+         */
+        static int findEscape(byte[] bytes, int from, int to){
+            int i = from;
+            for (; i + 8 <= to; i += 8){
+                long word = (long) LONGS.get(bytes, i);
+                //The high bit of a byte is set if it is below 0x20, or equal to a quote or backslash. Borrows can only set it above a byte which matches, so the lowest one is exact
+                long quotes = word ^ ('\"' * ONES), backslashes = word ^ ('\\' * ONES);
+                long hits = ((word - 0x20 * ONES) | (quotes - ONES) & ~quotes | (backslashes - ONES) & ~backslashes) & ~word & HIGHS;
+                if (hits != 0)
+                    return i + (Long.numberOfTrailingZeros(hits) >>> 3);
+            }
+            for (; i < to; i++){
+                byte b = bytes[i];
+                if ((b >= 0 && b < 0x20) || b == '\"' || b == '\\')
+                    return i;
+            }
+            return to;
+        }
+
+        /**
+         * Writes a character as-is.
+         * @param c the character to be written.
+         */
+        public abstract void writeRaw(char c);
+
+        /**
+         * Writes a string as-is, without quotes.
+         * @param s the string to be written.
+         */
+        public abstract void writeRaw(String s);
+
+        public void writeInt(int value){
+            writeRaw(Integer.toString(value));
+        }
+
+        public void writeLong(long value){
+            writeRaw(Long.toString(value));
+        }
+
+        public void writeDouble(double value){
+            writeRaw(Double.toString(value));
+        }
+
+        public void writeFloat(float value){
+            writeRaw(Float.toString(value));
+        }
+
+        public void writeBoolean(boolean value){
+            writeRaw(value ? "true" : "false");
+        }
+
+        /**
+         * Writes a character value, wrapped in single quotes. Single quotes, backslashes and control characters are escaped.
+         * @param value the character to be written.
+         */
+        public void writeChar(char value){
+            writeRaw('\'');
+            if (value == '\''){
+                writeRaw("\\'");
+            } else if (value < 0x20 || value == '\\'){
+                writeRaw(ESCAPES[value]);
+            } else {
+                writeRaw(value);
+            }
+            writeRaw('\'');
+        }
+
+        /**
+         * Writes a String value, wrapped in double quotes. Quotes, backslashes and control characters are escaped.
+         * @param value the String to be written.
+         */
+        public void writeString(String value){
+            writeRaw('\"');
+            for (int i = 0; i < value.length(); i++){
+                char c = value.charAt(i);
+                if (c < 0x80 && ESCAPES[c] != null)
+                    writeRaw(ESCAPES[c]);
+                else
+                    writeRaw(c);
+            }
+            writeRaw('\"');
+        }
+
+        /**
+         * Writes the prefix of a field, i.e. its name and a colon, preceded by a comma unless it is the first field of its class.
+         * @param field the field whose prefix is to be written.
+         */
+        void writeFieldPrefix(FieldInfo field){
+            for (char c : field.prefix)
+                writeRaw(c);
+        }
+
+        /**
+         * Writes the prefix of a field of the object a generated codec is currently writing.
+         * @param slot the index of the field within its {@code ClassLayout}.
+         */
+        public final void writeFieldPrefix(int slot){
+            writeFieldPrefix(fields[slot]);
+        }
+
+        /**
+         * Writes any value in JSON form, the same way {@code getValue()} would.
+         * @param value the value to be written.
+         * @throws DSONException if something has gone wrong during the serialization process.
+         */
+        public final void writeValue(Object value) throws DSONException{
+            DSON.writeValue(value, this);
+        }
+
+        /**
+         * Pushes everything written so far out to the underlying output, if there is one.
+         * @throws IOException if the underlying output fails.
+         */
+        abstract void flush() throws IOException;
+
+        /**
+         * Constructs an empty sink of the same kind as this one, which keeps all of its output in memory. Chunks are written in parallel, and then appended with {@code writeChunk()}.
+         * @return a new sink.
+         */
+        abstract Sink newChunk();
+
+        /**
+         * Writes everything written into a chunk so far.
+         * @param chunk a sink constructed by {@code newChunk()} of this sink.
+         */
+        abstract void writeChunk(Sink chunk);
+    }
+
+    /**
+     * A {@code Sink} which collects characters in a fixed-size buffer. Whenever the buffer is full, it is emptied into the target {@code Appendable}.
+     * If there is no target, the buffer grows instead, and the result can be taken out with {@code toString()}.
+     * @author MaximusHartanto
+     */
+    static final class CharSink extends Sink {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Appendable target;
+        private final DecimalFormatter decimals = new DecimalFormatter();
+        private static final long LANES = 0x0001000100010001L, LANE_HIGHS = 0x8000800080008000L;
+
+        /**
+         * The characters of the part of a String which is being scanned, see {@code writeString()}.
+         */
+        private final char[] scan = new char[256];
+        private char[] buf;
+        private int len;
+
+        /**
+         * Constructs a sink.
+         * @param target the Appendable the output is emptied into, or null to keep all of it in memory.
+         */
+        CharSink(Appendable target){
+            this.target = target;
+            this.buf = new char[target == null ? 64 : BUFFER_SIZE];
+        }
+
+        /**
+         * Makes room for at least one more character, by either emptying the buffer into the target or growing it.
+         */
+        private void makeRoom(){
+            if (target == null){
+                buf = Arrays.copyOf(buf, buf.length * 2);
+                return;
+            }
+            try {
+                flush();
+            }
+            catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void writeRaw(char c){
+            if (len == buf.length)
+                makeRoom();
+            buf[len++] = c;
+        }
+
+        @Override
+        public void writeDouble(double value){
+            decimals.formatDouble(value);
+            writeDecimal();
+        }
+
+        @Override
+        public void writeFloat(float value){
+            decimals.formatFloat(value);
+            writeDecimal();
+        }
+
+        /**
+         * Copies the number last formatted by {@code decimals} into the buffer.
+         */
+        private void writeDecimal(){
+            //At most 32 characters, which always fit into the buffer once it has been made room in
+            if (buf.length - len < decimals.length)
+                makeRoom();
+            for (int i = 0; i < decimals.length; i++)
+                buf[len++] = (char) decimals.bytes[i];
+        }
+
+        @Override
+        public void writeInt(int value){
+            writeLong(value);
+        }
+
+        /**
+         * Writes the digits of a number straight into the buffer, without creating a String for them.
+         * @param value the number to be written.
+         */
+        @Override
+        public void writeLong(long value){
+            //At most 20 characters, which always fit into the buffer once it has been made room in
+            if (buf.length - len < 20)
+                makeRoom();
+            //Works on the negative value, as Long.MIN_VALUE has no positive counterpart
+            if (value < 0)
+                buf[len++] = '-';
+            else
+                value = -value;
+            int end = len + 1;
+            for (long t = value; t <= -10; t /= 10)
+                end++;
+            for (int i = end - 1; i >= len; i--){
+                buf[i] = (char) ('0' - (value % 10));
+                value /= 10;
+            }
+            len = end;
+        }
+
+        @Override
+        public void writeRaw(String s){
+            writeRaw(s, 0, s.length());
+        }
+
+        /**
+         * Writes a range of a string as-is, copying as much of it as fits into the buffer at a time.
+         * @param s the string.
+         * @param from the index of the first character to be written.
+         * @param to the index after the last character to be written.
+         */
+        private void writeRaw(String s, int from, int to){
+            int remaining = to - from;
+            while (remaining > 0){
+                if (len == buf.length)
+                    makeRoom();
+                int n = Math.min(remaining, buf.length - len);
+                s.getChars(from, from + n, buf, len);
+                len += n;
+                from += n;
+                remaining -= n;
+            }
+        }
+
+        /**
+         * Writes a range of characters as-is, copying as much of it as fits into the buffer at a time.
+         * @param chars the characters.
+         * @param from the index of the first character to be written.
+         * @param to the index after the last character to be written.
+         */
+        private void writeRaw(char[] chars, int from, int to){
+            int remaining = to - from;
+            while (remaining > 0){
+                if (len == buf.length)
+                    makeRoom();
+                int n = Math.min(remaining, buf.length - len);
+                System.arraycopy(chars, from, buf, len, n);
+                len += n;
+                from += n;
+                remaining -= n;
+            }
+        }
+
+        /**
+         * Finds the next character which has to be escaped within a String, looking at eight characters at a time, four in the 16-bit lanes of each of two longs.
+         * @param chars the characters of the String.
+         * @param from the index the search starts at.
+         * @param to the index the search ends at.
+         * @return the index of the character, or {@code to} if there is none.
+         */
+        static int findEscape(char[] chars, int from, int to){
+            int i = from;
+            //Eight characters are tested per iteration, so that one branch covers two words
+            for (; i + 8 <= to; i += 8){
+                long low = laneHits(chars[i] | (long) chars[i + 1] << 16 | (long) chars[i + 2] << 32 | (long) chars[i + 3] << 48);
+                long high = laneHits(chars[i + 4] | (long) chars[i + 5] << 16 | (long) chars[i + 6] << 32 | (long) chars[i + 7] << 48);
+                if ((low | high) != 0)
+                    return i + (low != 0 ? Long.numberOfTrailingZeros(low) >>> 4 : 4 + (Long.numberOfTrailingZeros(high) >>> 4));
+            }
+            for (; i < to; i++){
+                char c = chars[i];
+                if (c < 0x20 || c == '\"' || c == '\\')
+                    return i;
+            }
+            return to;
+        }
+
+        /**
+         * Tests four characters at once, with the same test as for bytes in {@code Sink.findEscape()}.
+         * @param word the characters, each in a 16-bit lane.
+         * @return the word with the high bit of each lane set if the character in it is below 0x20, or equal to a quote or backslash. Only the lowest one is exact.
+         */
+        private static long laneHits(long word){
+            //Characters from 0x8000 up never match, as their high bits are cleared by ~word
+            long quotes = word ^ ('\"' * LANES), backslashes = word ^ ('\\' * LANES);
+            return ((word - 0x20 * LANES) | (quotes - LANES) & ~quotes | (backslashes - LANES) & ~backslashes) & ~word & LANE_HIGHS;
+        }
+
+        /**
+         * Writes a String value, wrapped in double quotes. The characters are scanned for the ones to be escaped eight at a time, in two words of four, see {@code findEscape()}.
+         * The runs of characters in between them are copied in bulk.
+         * @param value the String to be written.
+         */
+        @Override
+        public void writeString(String value){
+            writeRaw('\"');
+            int from = 0, n = value.length();
+            while (from < n){
+                //The String is copied a part at a time into a buffer of its own, as it has no view of its characters which could be scanned directly
+                int count = Math.min(n - from, scan.length);
+                value.getChars(from, from + count, scan, 0);
+                int start = 0;
+                while (start < count){
+                    int clean = findEscape(scan, start, count);
+                    writeRaw(scan, start, clean);
+                    if (clean < count)
+                        writeRaw(ESCAPES[scan[clean++]]);
+                    start = clean;
+                }
+                from += count;
+            }
+            writeRaw('\"');
+        }
+
+        @Override
+        void writeFieldPrefix(FieldInfo field){
+            char[] prefix = field.prefix;
+            if (buf.length - len < prefix.length)
+                makeRoom();
+            if (buf.length - len >= prefix.length){
+                System.arraycopy(prefix, 0, buf, len, prefix.length);
+                len += prefix.length;
+            } else {
+                //Only happens for names longer than the whole buffer
+                super.writeFieldPrefix(field);
+            }
+        }
+
+        @Override
+        void flush() throws IOException{
+            if (target == null || len == 0)
+                return;
+            if (target instanceof Writer writer){
+                writer.write(buf, 0, len);
+            } else if (target instanceof StringBuilder builder){
+                builder.append(buf, 0, len);
+            } else {
+                target.append(CharBuffer.wrap(buf, 0, len));
+            }
+            len = 0;
+        }
+
+        @Override
+        Sink newChunk(){
+            return new CharSink(null);
+        }
+
+        @Override
+        void writeChunk(Sink chunk){
+            CharSink source = (CharSink) chunk;
+            int from = 0, remaining = source.len;
+            while (remaining > 0){
+                if (len == buf.length)
+                    makeRoom();
+                int n = Math.min(remaining, buf.length - len);
+                System.arraycopy(source.buf, from, buf, len, n);
+                len += n;
+                from += n;
+                remaining -= n;
+            }
+        }
+
+        @Override
+        public String toString(){
+            return new String(buf, 0, len);
+        }
+    }
+
+    /**
+     * A {@code Sink} which encodes its output as UTF-8 straight into a byte buffer, so no String has to be built and then encoded again.
+     * Whenever the buffer is full, it is emptied into the target {@code OutputStream}. If there is no target, the buffer grows instead, and the result can be taken out with {@code toByteArray()}.
+     * <br><br>
+     * Field names are copied from their precomputed UTF-8 form, and ASCII text (which includes all numbers) is written one byte per character without going through an encoder.
+     * @author MaximusHartanto
+     */
+    static final class ByteSink extends Sink {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final OutputStream target;
+        private final DecimalFormatter decimals = new DecimalFormatter();
+        private byte[] buf;
+        private int len;
+
+        /**
+         * Constructs a sink.
+         * @param target the OutputStream the output is emptied into, or null to keep all of it in memory.
+         */
+        ByteSink(OutputStream target){
+            this.target = target;
+            this.buf = new byte[target == null ? 64 : BUFFER_SIZE];
+        }
+
+        /**
+         * Makes room for at least n more bytes, by either emptying the buffer into the target or growing it.
+         * @param n the number of bytes to make room for, which must fit into an empty buffer unless there is no target.
+         */
+        private void ensure(int n){
+            if (buf.length - len >= n)
+                return;
+            if (target == null){
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + n));
+                return;
+            }
+            try {
+                flush();
+            }
+            catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void writeRaw(char c){
+            ensure(3);
+            if (c < 0x80){
+                buf[len++] = (byte) c;
+            } else if (c < 0x800){
+                buf[len++] = (byte) (0xc0 | (c >> 6));
+                buf[len++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)){
+                //A lone surrogate cannot be encoded, so it is replaced the same way the JDK's encoder does
+                buf[len++] = '?';
+            } else {
+                buf[len++] = (byte) (0xe0 | (c >> 12));
+                buf[len++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buf[len++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+
+        @Override
+        public void writeRaw(String s){
+            int i = 0, n = s.length();
+            while (i < n){
+                //ASCII fast path, which copies as many characters as fit into the buffer without any further checks
+                ensure(1);
+                int end = Math.min(n, i + (buf.length - len));
+                char c;
+                while (i < end && (c = s.charAt(i)) < 0x80){
+                    buf[len++] = (byte) c;
+                    i++;
+                }
+                if (i == end)
+                    continue;
+                c = s.charAt(i++);
+                if (Character.isHighSurrogate(c) && i < n && Character.isLowSurrogate(s.charAt(i))){
+                    int cp = Character.toCodePoint(c, s.charAt(i++));
+                    ensure(4);
+                    buf[len++] = (byte) (0xf0 | (cp >> 18));
+                    buf[len++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                    buf[len++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                    buf[len++] = (byte) (0x80 | (cp & 0x3f));
+                } else {
+                    writeRaw(c);
+                }
+            }
+        }
+
+        @Override
+        public void writeDouble(double value){
+            decimals.formatDouble(value);
+            writeDecimal();
+        }
+
+        @Override
+        public void writeFloat(float value){
+            decimals.formatFloat(value);
+            writeDecimal();
+        }
+
+        /**
+         * Copies the number last formatted by {@code decimals} into the buffer.
+         */
+        private void writeDecimal(){
+            ensure(decimals.length);
+            System.arraycopy(decimals.bytes, 0, buf, len, decimals.length);
+            len += decimals.length;
+        }
+
+        @Override
+        public void writeInt(int value){
+            writeLong(value);
+        }
+
+        /**
+         * Writes the digits of a number straight into the buffer, without creating a String for them.
+         * @param value the number to be written.
+         */
+        @Override
+        public void writeLong(long value){
+            ensure(20);
+            //Works on the negative value, as Long.MIN_VALUE has no positive counterpart
+            if (value < 0)
+                buf[len++] = '-';
+            else
+                value = -value;
+            int end = len + 1;
+            for (long t = value; t <= -10; t /= 10)
+                end++;
+            for (int i = end - 1; i >= len; i--){
+                buf[i] = (byte) ('0' - (value % 10));
+                value /= 10;
+            }
+            len = end;
+        }
+
+        @Override
+        void writeFieldPrefix(FieldInfo field){
+            byte[] bytes = field.prefixBytes;
+            ensure(bytes.length);
+            if (buf.length - len >= bytes.length){
+                System.arraycopy(bytes, 0, buf, len, bytes.length);
+                len += bytes.length;
+            } else {
+                //Only happens for names longer than the whole buffer
+                super.writeFieldPrefix(field);
+            }
+        }
+
+        @Override
+        void flush() throws IOException{
+            if (target == null || len == 0)
+                return;
+            target.write(buf, 0, len);
+            len = 0;
+        }
+
+        @Override
+        Sink newChunk(){
+            return new ByteSink(null);
+        }
+
+        @Override
+        void writeChunk(Sink chunk){
+            ByteSink source = (ByteSink) chunk;
+            writeBytes(source.buf, 0, source.len);
+        }
+
+        /**
+         * Writes a range of bytes as-is, copying as much of it as fits into the buffer at a time.
+         * @param bytes the bytes.
+         * @param from the index of the first byte to be written.
+         * @param to the index after the last byte to be written.
+         */
+        private void writeBytes(byte[] bytes, int from, int to){
+            int remaining = to - from;
+            while (remaining > 0){
+                ensure(1);
+                int n = Math.min(remaining, buf.length - len);
+                System.arraycopy(bytes, from, buf, len, n);
+                len += n;
+                from += n;
+                remaining -= n;
+            }
+        }
+
+        /**
+         * Writes a String value, wrapped in double quotes. The String is encoded in one go, and then scanned eight bytes at a time for the bytes to be escaped.
+         * The runs of bytes in between them are copied in bulk, so Strings without anything to escape cost little more than a copy.
+         * @param value the String to be written.
+         */
+        @Override
+        public void writeString(String value){
+            //Every byte of a multi-byte UTF-8 sequence has its high bit set, so only the ASCII bytes are ever escaped
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeRaw('\"');
+            int from = 0;
+            while (true){
+                int clean = findEscape(bytes, from, bytes.length);
+                writeBytes(bytes, from, clean);
+                if (clean == bytes.length)
+                    break;
+                writeRaw(ESCAPES[bytes[clean]]);
+                from = clean + 1;
+            }
+            writeRaw('\"');
+        }
+
+        /**
+         * Gets everything written so far.
+         * @return a new byte array holding the UTF-8 output.
+         */
+        byte[] toByteArray(){
+            return Arrays.copyOf(buf, len);
+        }
+    }
+
+    /**
+     * A {@code Sink} which pretty-prints everything written into it on its way to another sink, in the format of {@code prettyPrint()}:
+     * the fields of an object go on lines of their own, indented by how many objects they are nested in, and colons are followed by a space. Arrays are kept on one line.
+     * <br><br>
+     * Only the structural characters written through {@code writeRaw()} are reformatted. Strings, chars, numbers and field names are passed through as-is, so their contents are never mistaken for structure.
+     * @author MaximusHartanto
+     */
+    static final class PrettySink extends Sink {
+        final Sink target;
+        private final String indent;
+        /**
+         * The number of objects the output is currently nested in, which is how far lines are indented.
+         */
+        private int depth;
+        /**
+         * For each bracket or brace which is currently open, innermost last, whether it is the brace of an object. Only commas within objects start new lines.
+         */
+        private boolean[] objects;
+        private int open;
+
+        /**
+         * Constructs a sink.
+         * @param target the sink the pretty-printed output is written to.
+         * @param indent the number of spaces each level of indentation is made of.
+         * @throws IllegalArgumentException if indent is negative.
+         */
+        PrettySink(Sink target, int indent){
+            if (indent < 0)
+                throw new IllegalArgumentException("indent must not be negative: " + indent);
+            this.target = target;
+            this.indent = " ".repeat(indent);
+            this.objects = new boolean[16];
+        }
+
+        /**
+         * Constructs a sink which carries on from where another one currently is, see {@code newChunk()}.
+         */
+        private PrettySink(Sink target, PrettySink state){
+            this.target = target;
+            this.indent = state.indent;
+            this.depth = state.depth;
+            this.objects = state.objects.clone();
+            this.open = state.open;
+        }
+
+        @Override
+        public void writeRaw(char c){
+            if (c == '{' || c == '['){
+                if (open == objects.length)
+                    objects = Arrays.copyOf(objects, open * 2);
+                objects[open++] = c == '{';
+                target.writeRaw(c);
+                if (c == '{')
+                    newLine(++depth);
+            } else if (c == '}' || c == ']'){
+                //Malformed input is passed through rather than rejected, which only leaves it oddly indented
+                if (open > 0)
+                    open--;
+                if (c == '}' && depth > 0)
+                    newLine(--depth);
+                target.writeRaw(c);
+            } else if (c == ','){
+                target.writeRaw(c);
+                if (open > 0 && objects[open - 1])
+                    newLine(depth);
+            } else if (c == ':'){
+                target.writeRaw(c);
+                target.writeRaw(' ');
+            } else {
+                target.writeRaw(c);
+            }
+        }
+
+        @Override
+        public void writeRaw(String s){
+            for (int i = 0; i < s.length(); i++)
+                writeRaw(s.charAt(i));
+        }
+
+        /**
+         * Starts a new line, indented by a number of levels.
+         * @param levels the number of levels of indentation.
+         */
+        private void newLine(int levels){
+            target.writeRaw('\n');
+            if (indent.isEmpty())
+                return;
+            for (int i = 0; i < levels; i++)
+                target.writeRaw(indent);
+        }
+
+        @Override
+        public void writeInt(int value){
+            target.writeInt(value);
+        }
+
+        @Override
+        public void writeLong(long value){
+            target.writeLong(value);
+        }
+
+        @Override
+        public void writeDouble(double value){
+            target.writeDouble(value);
+        }
+
+        @Override
+        public void writeFloat(float value){
+            target.writeFloat(value);
+        }
+
+        @Override
+        public void writeBoolean(boolean value){
+            target.writeBoolean(value);
+        }
+
+        @Override
+        public void writeChar(char value){
+            target.writeChar(value);
+        }
+
+        @Override
+        public void writeString(String value){
+            target.writeString(value);
+        }
+
+        @Override
+        void writeFieldPrefix(FieldInfo field){
+            //The name sits in between the comma and the colon of the prefix, and is written as-is
+            char[] prefix = field.prefix;
+            int start = 0;
+            if (field.slot > 0){
+                writeRaw(',');
+                start = 1;
+            }
+            for (int i = start; i < prefix.length - 1; i++)
+                target.writeRaw(prefix[i]);
+            writeRaw(':');
+        }
+
+        @Override
+        void flush() throws IOException{
+            target.flush();
+        }
+
+        /**
+         * Constructs a sink for a chunk, which formats its output as if it were written into this sink at its current position.
+         * All chunks of an array are constructed once the array has been opened, and each of them leaves the nesting the way it found it.
+         * @return a new sink.
+         */
+        @Override
+        Sink newChunk(){
+            return new PrettySink(target.newChunk(), this);
+        }
+
+        @Override
+        void writeChunk(Sink chunk){
+            target.writeChunk(((PrettySink) chunk).target);
+        }
+    }
+
+    /**
+     * A cursor over a JSON document, used by the {@code Parser} to read tokens.
+     * The cursor walks the document by index, and skips whitespace between tokens on the fly instead of pre-formatting the whole document.
+     * <br><br>
+     * Lookahead is a plain index read, so no intermediate Strings are created except for the values that are actually Strings.
+     * <br><br>
+     * The document itself is held by a subclass, either as characters ({@code CharCursor}) or as UTF-8 bytes ({@code ByteCursor}).
+     * A subclass may also hold only a window of the document, which it moves forward in {@code fill()} as parsing goes on.
+     * @author MaximusHartanto
+     */
+    abstract static class Cursor {
+        /**
+         * The character returned by the lookahead functions once there are no more characters to be parsed.
+         */
+        static final char EOF = '\0';
+
+        /**
+         * The number of characters currently held, and the index of the next one to be read.
+         */
+        int limit, pos;
+        /**
+         * The start of the token that is currently being read, or -1. Refilling the buffer keeps everything from here onwards.
+         */
+        int mark = -1;
+        /**
+         * The start of a value which is read twice, see {@code countElements()}, or -1. Refilling the buffer keeps everything from here onwards as well.
+         */
+        int hold = -1;
+        /**
+         * The parts of the last number read by {@code readDecimal()}: its sign, its significant digits, and the power of ten they are scaled by.
+         */
+        private boolean negative;
+        private long significand;
+        private int exponent;
+
+
+        Cursor(){
+        }
+
+        /**
+         * Gets the character at an index of the buffer. Only indices below {@code limit} are valid.
+         * @param i the index of the character.
+         * @return the character at that index.
+         */
+        abstract char charAt(int i);
+
+        /**
+         * Creates a String out of a region of the buffer.
+         * @param start the first index of the region (inclusive).
+         * @param end the last index of the region (exclusive).
+         * @return a String holding the region.
+         */
+        abstract String substring(int start, int end);
+
+        /**
+         * Reads more of the document into the buffer. Everything before the current position (or the mark, if one is set) may be discarded to make room.
+         * @return a boolean - true if more characters were read, false if the end of the document has been reached.
+         */
+        abstract boolean fill();
+
+        /**
+         * Gets the first position which has to be kept when the buffer is refilled, i.e. the current one unless a token is being read or a value is held.
+         * @return the position.
+         */
+        final int keepFrom(){
+            int keep = (mark >= 0) ? mark : pos;
+            return (hold >= 0) ? Math.min(hold, keep) : keep;
+        }
+
+        /**
+         * Moves all positions back after the buffer has dropped its first characters.
+         * @param keep the number of characters dropped.
+         */
+        final void shift(int keep){
+            pos -= keep;
+            if (mark >= 0)
+                mark -= keep;
+            if (hold >= 0)
+                hold -= keep;
+        }
+
+        /**
+         * Counts the elements of the array at the current position, without moving past it. The elements are stepped over, and the array is then read again from its start,
+         * so a cursor which reads its document bit by bit holds the whole array in memory meanwhile.
+         * @return the number of elements.
+         * @throws DSONException if there is no array at the current position, or it is not closed.
+         */
+        int countElements() throws DSONException{
+            peek();
+            int outer = hold;
+            hold = pos;
+            try {
+                expect('[');
+                int count = 0;
+                if (peek() != ']'){
+                    do {
+                        skipValue();
+                        count++;
+                    } while (option(','));
+                }
+                expect(']');
+                return count;
+            }
+            finally {
+                pos = hold;
+                hold = outer;
+            }
+        }
+
+        /**
+         * Checks if there is at least one more character to be read, refilling the buffer if necessary.
+         * @return a boolean - true if {@code charAt(pos)} can be read.
+         */
+        final boolean available(){
+            return pos < limit || fill();
+        }
+
+        /**
+         * Skips spaces, tabs and newlines. This is only ever called between tokens, so whitespace within Strings is kept intact.
+         */
+        private void skipWhitespace(){
+            while (available()){
+                char c = charAt(pos);
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                    return;
+                pos++;
+            }
+        }
+
+        /**
+         * Peeks at the next non-whitespace character. If the cursor is currently reading "  hello world", this will return 'h'.
+         * @return the lookahead character, or {@code EOF} if there are no more characters to be parsed.
+         */
+        char peek(){
+            skipWhitespace();
+            return available() ? charAt(pos) : EOF;
+        }
+
+        /**
+         * Checks if the cursor has reached the end of the JSON document, and if there are no more characters to parse.
+         * @return a boolean, {@code true} if there are no more characters to be parsed.
+         */
+        boolean endOfInput(){
+            skipWhitespace();
+            return !available();
+        }
+
+        /**
+         * Expects a character to be the next token. For example, if {@code expect(':')} is ran, the next character MUST be a colon or an exception will be thrown.
+         * <br><br>
+         * Do note that during the process, the character will be consumed at the same time. This is because consuming the character is inevitable in any case.
+         * @param c the character to be expected to be the next token.
+         * @throws DSONException this means that the next character does not match with the intended one.
+         */
+        void expect(char c) throws DSONException{
+            if (endOfInput() || charAt(pos) != c)
+                throw new DSONException();
+            pos++;
+        }
+
+        /**
+         * If the next token is equal to c, this function will consume it. Otherwise, nothing happens.
+         * <br><br>
+         * This function is helpful when some syntax can be in two forms. For example, fields can either have quote marks, e.g. {@code "key" : 35} or not, e.g. {@code key : 35}.
+         * @param c the optional character
+         * @return a boolean - true if the character was present and consumed.
+         */
+        boolean option(char c){
+            if (!endOfInput() && charAt(pos) == c){
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Consumes the next character as-is, without skipping any whitespace. Used within quotes.
+         * @return the character consumed by this function.
+         * @throws DSONException if there are no more characters to be parsed.
+         */
+        char nextRaw() throws DSONException{
+            if (!available())
+                throw new DSONException();
+            return charAt(pos++);
+        }
+
+        /**
+         * Checks if the next character (without skipping whitespace) is a digit.
+         * @return a boolean - true if the next character is between '0' and '9'.
+         */
+        private boolean atDigit(){
+            if (!available())
+                return false;
+            char c = charAt(pos);
+            return c >= '0' && c <= '9';
+        }
+
+        /**
+         * Checks if the next character (without skipping whitespace) can be part of a field name.
+         * @return a boolean - true if the next character is a letter or a digit.
+         */
+        boolean atNameChar(){
+            return available() && Character.isLetterOrDigit(charAt(pos));
+        }
+
+        /**
+         * Reads an integer from the current position. The integer may be negative, e.g. -35.
+         * @return an integer value based on the value parsed.
+         * @throws DSONException if there is no integer, or if it does not fit into an int.
+         */
+        int readInt() throws DSONException{
+            long result = readLong();
+            if (result != (int) result)
+                throw new DSONException();
+            return (int) result;
+        }
+
+        /**
+         * Reads a long from the current position. The long may be negative, e.g. -35.
+         * @return a long value based on the value parsed.
+         * @throws DSONException if there is no long, or if it does not fit into a long.
+         */
+        long readLong() throws DSONException{
+            skipWhitespace();
+            boolean negative = available() && charAt(pos) == '-';
+            if (negative)
+                pos++;
+            if (!atDigit())
+                throw new DSONException();
+            //Accumulates negatively, as Long.MIN_VALUE has no positive counterpart
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long result = 0;
+            while (atDigit()){
+                int digit = charAt(pos++) - '0';
+                if (result < limit / 10)
+                    throw new DSONException();
+                result *= 10;
+                if (result < limit + digit)
+                    throw new DSONException();
+                result -= digit;
+            }
+            return negative ? result : -result;
+        }
+
+        /**
+         * Reads a decimal number from the current position into {@code negative}, {@code significand} and {@code exponent}. The full JSON number grammar is accepted, e.g. -12.5e-3, along with these lenient forms:
+         * <br><br>
+         * {@code 1. A missing whole part (e.g. .4)}
+         * <br><br>
+         * {@code 2. A missing fraction (e.g. 3.)}
+         * <br><br>
+         * The first 19 significant digits are kept, which always fit into a long. Any digits after that are dropped.
+         * @return a boolean - true if no non-zero digits had to be dropped, which means the parts are exact.
+         * @throws DSONException if there is no number, or its exponent has no digits.
+         */
+        private boolean readDecimal() throws DSONException{
+            negative = available() && charAt(pos) == '-';
+            if (negative)
+                pos++;
+            long w = 0;
+            int digits = 0, q = 0, significant = 0;
+            boolean exact = true;
+            while (atDigit()){
+                int digit = charAt(pos++) - '0';
+                digits++;
+                if (significant < 19){
+                    w = w * 10 + digit;
+                    if (w != 0)
+                        significant++;
+                } else {
+                    q++;
+                    exact &= digit == 0;
+                }
+            }
+            if (available() && charAt(pos) == '.'){
+                pos++;
+                while (atDigit()){
+                    int digit = charAt(pos++) - '0';
+                    digits++;
+                    if (significant < 19){
+                        w = w * 10 + digit;
+                        q--;
+                        if (w != 0)
+                            significant++;
+                    } else {
+                        exact &= digit == 0;
+                    }
+                }
+            }
+            if (digits == 0)
+                throw new DSONException();
+            if (available() && (charAt(pos) == 'e' || charAt(pos) == 'E')){
+                pos++;
+                boolean negativeExponent = available() && charAt(pos) == '-';
+                if (negativeExponent || (available() && charAt(pos) == '+'))
+                    pos++;
+                if (!atDigit())
+                    throw new DSONException();
+                int e = 0;
+                while (atDigit()){
+                    int digit = charAt(pos++) - '0';
+                    //Anything this large is zero or infinity anyway, so it is capped to keep it from overflowing
+                    if (e < 100_000)
+                        e = e * 10 + digit;
+                }
+                q += negativeExponent ? -e : e;
+            }
+            significand = w;
+            exponent = q;
+            return exact;
+        }
+
+        /**
+         * Reads a decimal number from the current position, in any of the formats accepted by {@code readDecimal()}.
+         * The result is the double nearest to the number, the same one {@code Double.parseDouble()} would give.
+         * @return the parsed double value.
+         * @throws DSONException if there is no valid number at the current position.
+         */
+        double readDouble() throws DSONException{
+            skipWhitespace();
+            mark = pos;
+            double value = readDecimal() ? DecimalParser.toDouble(significand, exponent, negative) : Double.NaN;
+            if (Double.isNaN(value))
+                value = Double.parseDouble(substring(mark, pos));
+            mark = -1;
+            return value;
+        }
+
+        /**
+         * Reads a float from the current position. Accepts the same formats as {@code readDouble()}, plus an optional f modifier (e.g. 3f, .4f).
+         * The result is the float nearest to the number, the same one {@code Float.parseFloat()} would give.
+         * @return the parsed float value.
+         * @throws DSONException if there is no valid number at the current position.
+         */
+        float readFloat() throws DSONException{
+            skipWhitespace();
+            mark = pos;
+            float value = readDecimal() ? DecimalParser.toFloat(significand, exponent, negative) : Float.NaN;
+            if (Float.isNaN(value))
+                value = Float.parseFloat(substring(mark, pos));
+            mark = -1;
+            if (available() && charAt(pos) == 'f')
+                pos++;
+            return value;
+        }
+
+        /**
+         * Reads a boolean from the current position. Do note that Json is case-sensitive. This function will only accept 'true' and 'false' as boolean values, and they must be unwrapped in quotes.
+         * @return the boolean value parsed.
+         * @throws DSONException if the input format is invalid, an exception will be thrown.
+         */
+        boolean readBoolean() throws DSONException{
+            skipWhitespace();
+            mark = pos;
+            while (available() && charAt(pos) >= 'a' && charAt(pos) <= 'z')
+                pos++;
+            int start = mark;
+            mark = -1;
+            if (regionEquals(start, pos, "true"))
+                return true;
+            if (regionEquals(start, pos, "false"))
+                return false;
+            throw new DSONException();
+        }
+
+        /**
+         * Checks if the characters between two indices spell out a given word, without creating a String out of them.
+         * @param start the first index of the region (inclusive).
+         * @param end the last index of the region (exclusive).
+         * @param word the word to compare against.
+         * @return a boolean - true if the region matches the word exactly.
+         */
+        private boolean regionEquals(int start, int end, String word){
+            if (end - start != word.length())
+                return false;
+            for (int i = 0; i < word.length(); i++){
+                if (charAt(start + i) != word.charAt(i))
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * Reads a string from the current position. Strings should be wrapped in {@code \"quotes\"}, and may contain escape sequences.
+         * The runs of characters in between escape sequences are copied out of the document in one go, so a String without any is copied once the closing quote has been found.
+         * @return the parsed String value.
+         * @throws DSONException if the format is invalid, an exception will be thrown.
+         */
+        String readString() throws DSONException{
+            expect('\"');
+            StringBuilder result = null;
+            while (true){
+                mark = pos;
+                char c;
+                while (available() && (c = charAt(pos)) != '\"' && c != '\\')
+                    pos++;
+                int start = mark;
+                mark = -1;
+                if (!available())
+                    throw new DSONException();
+                String run = substring(start, pos);
+                if (charAt(pos++) == '\"')
+                    return (result == null) ? run : result.append(run).toString();
+                if (result == null)
+                    result = new StringBuilder();
+                result.append(run).append(readEscape());
+            }
+        }
+
+        /**
+         * Reads the rest of an escape sequence, i.e. everything after its backslash, e.g. {@code n} or {@code u00e9}.
+         * @return the escaped character.
+         * @throws DSONException if the escape sequence is invalid.
+         */
+        private char readEscape() throws DSONException{
+            char c = nextRaw();
+            if (c == '\"' || c == '\\' || c == '/' || c == '\'')
+                return c;
+            if (c == 'n')
+                return '\n';
+            if (c == 't')
+                return '\t';
+            if (c == 'r')
+                return '\r';
+            if (c == 'b')
+                return '\b';
+            if (c == 'f')
+                return '\f';
+            if (c != 'u')
+                throw new DSONException();
+            int value = 0;
+            for (int i = 0; i < 4; i++){
+                int digit = Character.digit(nextRaw(), 16);
+                if (digit < 0)
+                    throw new DSONException();
+                value = (value << 4) | digit;
+            }
+            return (char) value;
+        }
+
+        /**
+         * Reads a singular character from the current position. Characters should be wrapped in {@code \'quotes\'}, and may be an escape sequence.
+         * @return the parsed character value.
+         * @throws DSONException if the format is invalid, an exception will be thrown.
+         */
+        char readChar() throws DSONException{
+            expect('\'');
+            char result = nextRaw();
+            if (result == '\\')
+                result = readEscape();
+            if (nextRaw() != '\'')
+                throw new DSONException();
+            return result;
+        }
+
+        /**
+         * Reads the name of a field, e.g. the {@code key} out of {@code key: 35}. The name may optionally be wrapped in quotes.
+         * @return the name of the field.
+         */
+        String readName(){
+            option('\"');
+            mark = pos;
+            while (atNameChar())
+                pos++;
+            int start = mark;
+            mark = -1;
+            String name = substring(start, pos);
+            option('\"');
+            return name;
+        }
+
+        /**
+         * Reads the name of a field and looks it up among the fields of a class, without creating a String for it.
+         * @param layout the layout of the class.
+         * @return the field, or null if the class does not have a field of that name.
+         */
+        FieldInfo readField(ClassLayout layout){
+            option('\"');
+            mark = pos;
+            while (atNameChar())
+                pos++;
+            int start = mark;
+            mark = -1;
+            //The name is still held, as nothing has been read since its end
+            FieldInfo field = nameMatcher(layout).match(this, start, pos - start);
+            option('\"');
+            return field;
+        }
+
+        /**
+         * Gets the matcher for the units this cursor reads names in.
+         * @param layout the layout of the class whose fields are matched.
+         * @return the matcher of the layout which compares characters.
+         */
+        NameMatcher nameMatcher(ClassLayout layout){
+            return layout.charNames;
+        }
+
+        /**
+         * Skips the name of a field, without creating a String for it.
+         */
+        void skipName(){
+            option('\"');
+            while (atNameChar())
+                pos++;
+            option('\"');
+        }
+
+        /**
+         * Skips a String value, without creating a String for it.
+         * @throws DSONException if the format is invalid, an exception will be thrown.
+         */
+        void skipString() throws DSONException{
+            expect('\"');
+            while (available()){
+                char c = charAt(pos++);
+                if (c == '\"')
+                    return;
+                //Skips the character after a backslash, so escaped quotes do not end the String
+                if (c == '\\' && available())
+                    pos++;
+            }
+            throw new DSONException();
+        }
+
+        /**
+         * Skips a whole value, including everything nested within it. Nothing is decoded, and brackets are only counted, not matched against each other.
+         * @throws DSONException if there is no value at the current position, or a String or char within it is not closed.
+         */
+        void skipValue() throws DSONException{
+            char c = peek();
+            if (c == '{' || c == '['){
+                int level = 0;
+                do {
+                    c = charAt(pos);
+                    if (c == '\"'){
+                        skipString();
+                        continue;
+                    }
+                    if (c == '\''){
+                        readChar();
                         continue;
+                    }
+                    if (c == '{' || c == '[')
+                        level++;
+                    else if (c == '}' || c == ']')
+                        level--;
+                    pos++;
+                } while (level > 0 && available());
+                if (level > 0)
+                    throw new DSONException();
+            } else if (c == '\"'){
+                skipString();
+            } else if (c == '\''){
+                readChar();
+            } else if (c == 't' || c == 'f'){
+                readBoolean();
+            } else {
+                int from = pos;
+                skipNumber();
+                if (pos == from)
+                    throw new DSONException();
+            }
+        }
+
+        /**
+         * Skips a number, without converting it. Every character which can be part of a number is skipped, so the number is not validated.
+         */
+        void skipNumber(){
+            skipWhitespace();
+            while (available()){
+                char c = charAt(pos);
+                if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E' && c != 'f')
+                    return;
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * A {@code Cursor} over characters, either of a whole JSON string or read from a {@code Reader}.
+     * In the latter case it works through a small buffer that is refilled as parsing goes on.
+     * The buffer only grows if a single token (e.g. a very long String) does not fit into it.
+     * @author MaximusHartanto
+     */
+    static final class CharCursor extends Cursor {
+        private static final int BUFFER_SIZE = 8192;
+
+        private char[] buf;
+        private Reader source;
+
+        /**
+         * Constructs a cursor placed at the start of a JSON string.
+         * @param s the JSON string to be parsed.
+         */
+        CharCursor(String s){
+            this.buf = s.toCharArray();
+            this.limit = buf.length;
+        }
+
+        /**
+         * Constructs a cursor which reads a JSON document from a Reader, a buffer at a time.
+         * I/O failures are thrown as {@code UncheckedIOException}s. The Reader is not closed.
+         * @param source the Reader the JSON document is read from.
+         */
+        CharCursor(Reader source){
+            this.buf = new char[BUFFER_SIZE];
+            this.source = source;
+        }
+
+        @Override
+        char charAt(int i){
+            return buf[i];
+        }
+
+        @Override
+        String substring(int start, int end){
+            return new String(buf, start, end - start);
+        }
+
+        @Override
+        boolean fill(){
+            if (source == null)
+                return false;
+            int keep = keepFrom();
+            if (keep > 0){
+                System.arraycopy(buf, keep, buf, 0, limit - keep);
+                limit -= keep;
+                shift(keep);
+            }
+            if (limit == buf.length)
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            int n;
+            try {
+                n = source.read(buf, limit, buf.length - limit);
+            }
+            catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+            if (n < 0){
+                source = null;
+                return false;
+            }
+            limit += n;
+            return true;
+        }
+    }
+
+    /**
+     * A {@code Cursor} over the UTF-8 bytes of a JSON document.
+     * All of the JSON syntax is ASCII, so tokens are read straight from the bytes. Only the contents of Strings, names and chars are actually decoded.
+     * <br><br>
+     * The bytes come from a {@code ByteBuffer}, which may be a heap buffer or a memory-mapped file.
+     * @author MaximusHartanto
+     */
+    static class ByteCursor extends Cursor {
+        ByteBuffer buf;
+
+        /**
+         * Constructs a cursor placed at the start of a UTF-8 encoded JSON document.
+         * @param buf the buffer holding the document, from index 0 up to its limit.
+         */
+        ByteCursor(ByteBuffer buf){
+            this.buf = buf;
+            this.limit = buf.limit();
+        }
+
+        @Override
+        final char charAt(int i){
+            return (char) (buf.get(i) & 0xff);
+        }
+
+        @Override
+        final String substring(int start, int end){
+            byte[] bytes = new byte[end - start];
+            buf.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        boolean fill(){
+            return false;
+        }
+
+        /**
+         * Any byte of a multi-byte sequence is treated as part of the name, since names are matched after decoding anyway.
+         */
+        @Override
+        final boolean atNameChar(){
+            if (!available())
+                return false;
+            char c = charAt(pos);
+            return c >= 0x80 || Character.isLetterOrDigit(c);
+        }
+
+        /**
+         * Names are matched by their UTF-8 bytes, so they do not have to be decoded.
+         */
+        @Override
+        final NameMatcher nameMatcher(ClassLayout layout){
+            return layout.byteNames;
+        }
+
+        /**
+         * Consumes the next character as-is, decoding it from UTF-8 if it takes up more than one byte.
+         * @throws DSONException if there are no more characters, or the character does not fit into a single {@code char}.
+         */
+        @Override
+        final char nextRaw() throws DSONException{
+            char c = super.nextRaw();
+            if (c < 0x80)
+                return c;
+            int extra = (c >= 0xe0) ? 2 : 1;
+            if (c >= 0xf0 || c < 0xc0)
+                throw new DSONException();
+            int value = c & (extra == 2 ? 0x0f : 0x1f);
+            for (int i = 0; i < extra; i++)
+                value = (value << 6) | (super.nextRaw() & 0x3f);
+            return (char) value;
+        }
+    }
+
+    /**
+     * A {@code ByteCursor} over a memory-mapped file. The file is mapped a window at a time, so files larger than 2GB can be parsed as well.
+     * Only the part of the file that is being parsed is paged in, and none of it is copied onto the heap except for the Strings that are read.
+     * @author MaximusHartanto
+     */
+    static final class MappedCursor extends ByteCursor {
+        private static final int WINDOW_SIZE = 1 << 30;
+
+        private final FileChannel file;
+        private final long size;
+        /**
+         * The offset within the file of index 0 of the current window.
+         */
+        private long base;
+
+        /**
+         * Constructs a cursor placed at the start of a file. The first window is mapped on the first read.
+         * I/O failures are thrown as {@code UncheckedIOException}s. The channel is not closed, but may be closed once parsing is over, as the mappings stay valid.
+         * @param file the channel of the file to be parsed.
+         * @throws IOException if the size of the file cannot be read.
+         */
+        MappedCursor(FileChannel file) throws IOException{
+            super(ByteBuffer.allocate(0));
+            this.file = file;
+            this.size = file.size();
+        }
+
+        @Override
+        boolean fill(){
+            int keep = keepFrom();
+            long start = base + keep;
+            int held = limit - keep;
+            int length = (int) Math.min(size - start, Math.min((long) held + WINDOW_SIZE, Integer.MAX_VALUE - 8));
+            if (length <= held)
+                return false;
+            try {
+                buf = file.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+            base = start;
+            limit = length;
+            shift(keep);
+            return true;
+        }
+    }
+
+    /**
+     * The structural index of a UTF-8 encoded JSON document: the positions of all brackets, braces, colons and commas outside of Strings, and of the quotes around each String.
+     * Each opening bracket or brace also knows the position of its closing one, so whole values can be stepped over in constant time.
+     * <br><br>
+     * The index is built 64 bytes at a time. Each byte class (quotes, backslashes, structural characters) is turned into a 64-bit mask with SWAR arithmetic on eight bytes at a time,
+     * escaped quotes are removed with carry-propagating additions, and Strings are masked out with a prefix-xor over the quotes. None of this branches on the contents of the document.
+     * <br><br>
+     * Blocks which contain a single quote (a char literal, or an apostrophe within a String) are indexed byte by byte instead, as char literals can hold characters which would otherwise look structural.
+     * @author MaximusHartanto
+     */
+    static final class StructuralIndex {
+        private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+        private static final long ONES = 0x0101010101010101L, HIGHS = 0x8080808080808080L, EVEN_BITS = 0x5555555555555555L;
+
+        /**
+         * The positions within the document, in ascending order, and how many of them there are.
+         */
+        final int[] positions;
+        final int count;
+        /**
+         * For every position of an opening bracket or brace, the index (within {@code positions}) of its closing one, and the other way round. -1 for all other positions.
+         */
+        final int[] matches;
+
+        private StructuralIndex(int[] positions, int count, int[] matches){
+            this.positions = positions;
+            this.count = count;
+            this.matches = matches;
+        }
+
+        /**
+         * Finds the bytes of an 8-byte word which are equal to a character.
+         * @param word the bytes, in little-endian order.
+         * @param c the character to be searched for.
+         * @return a mask with the high bit of each byte set if the byte is equal to c.
+         */
+        private static long eq(long word, char c){
+            long x = word ^ (c * ONES);
+            //The high bit of each byte is set if the byte is not zero, without carries between the bytes
+            long nonZero = ((x & ~HIGHS) + ~HIGHS) | x;
+            return ~nonZero & HIGHS;
+        }
+
+        /**
+         * Gathers the high bits of the bytes of a mask into 8 consecutive bits.
+         * @param highs a mask with only the high bits of its bytes set.
+         * @return an 8-bit mask, with bit i set if the high bit of byte i is.
+         */
+        private static long gather(long highs){
+            return (highs >>> 7) * 0x0102040810204080L >>> 56;
+        }
+
+        /**
+         * Computes the prefix-xor of a mask, i.e. bit i is the parity of bits 0 to i. Applied to the quotes, this is the mask of the bytes within Strings.
+         */
+        private static long prefixXor(long x){
+            x ^= x << 1;
+            x ^= x << 2;
+            x ^= x << 4;
+            x ^= x << 8;
+            x ^= x << 16;
+            x ^= x << 32;
+            return x;
+        }
+
+        /**
+         * Builds the index of a document.
+         * @param json the UTF-8 bytes of the document.
+         * @return the index.
+         * @throws DSONException if a String is not closed, or the brackets and braces do not match up.
+         */
+        static StructuralIndex build(byte[] json) throws DSONException{
+            return build(ByteBuffer.wrap(json));
+        }
+
+        /**
+         * Builds the index of a document held by a buffer, which may be a memory-mapped file.
+         * @param json the buffer holding the UTF-8 bytes of the document, from index 0 up to its limit.
+         * @return the index.
+         * @throws DSONException if a String is not closed, or the brackets and braces do not match up.
+         */
+        static StructuralIndex build(ByteBuffer json) throws DSONException{
+            int length = json.limit();
+            int[] positions = new int[Math.max(16, length / 8)];
+            int count = 0;
+            //The state carried over from one block to the next
+            long escapedCarry = 0, inStringCarry = 0;
+            int literalEnd = 0;
+            ByteBuffer tail = ByteBuffer.allocate(64);
+            long[] masks = new long[4];
+            for (int base = 0; base < length; base += 64){
+                ByteBuffer block = json;
+                int offset = base;
+                if (length - base < 64){
+                    //The last block is padded with spaces
+                    Arrays.fill(tail.array(), (byte) ' ');
+                    json.get(base, tail.array(), 0, length - base);
+                    block = tail;
+                    offset = 0;
+                }
+                classify(block, offset, masks);
+                long quotes = masks[0], backslashes = masks[1], structurals = masks[2], apostrophes = masks[3];
+                long bits;
+                if (apostrophes == 0 && literalEnd <= base){
+                    //Backslashes which are escaped themselves do not escape anything
+                    backslashes &= ~escapedCarry;
+                    long followsEscape = (backslashes << 1) | escapedCarry;
+                    //Runs of backslashes escape the byte after them if they have an odd length, which is told apart by whether they start on an even or odd bit
+                    long oddStarts = backslashes & ~EVEN_BITS & ~followsEscape;
+                    long sequencesOnEvenBits = oddStarts + backslashes;
+                    escapedCarry = Long.compareUnsigned(sequencesOnEvenBits, oddStarts) < 0 ? 1 : 0;
+                    long escaped = (EVEN_BITS ^ (sequencesOnEvenBits << 1)) & followsEscape;
+                    quotes &= ~escaped;
+                    long inString = prefixXor(quotes) ^ inStringCarry;
+                    inStringCarry = inString >> 63;
+                    bits = (structurals & ~inString) | quotes;
+                } else {
+                    long[] state = {escapedCarry, inStringCarry, literalEnd};
+                    bits = scanBlock(json, base, state);
+                    escapedCarry = state[0];
+                    inStringCarry = state[1];
+                    literalEnd = (int) state[2];
+                }
+                if (count + Long.bitCount(bits) > positions.length)
+                    positions = Arrays.copyOf(positions, Math.max(positions.length * 2, count + 64));
+                while (bits != 0){
+                    positions[count++] = base + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            if (inStringCarry != 0 || literalEnd > length)
+                throw new DSONException();
+            return new StructuralIndex(positions, count, matchBrackets(json, positions, count));
+        }
+
+        /**
+         * Computes the masks of the quotes, backslashes, structural characters and single quotes of a 64-byte block.
+         * @param block the buffer holding the block.
+         * @param offset the index of the block within the buffer.
+         * @param masks the array the four masks are stored into, in that order.
+         */
+        private static void classify(ByteBuffer block, int offset, long[] masks){
+            long quotes = 0, backslashes = 0, structurals = 0, apostrophes = 0;
+            for (int i = 0; i < 8; i++){
+                long word = (long) LONGS.get(block, offset + i * 8);
+                int shift = i * 8;
+                quotes |= gather(eq(word, '\"')) << shift;
+                backslashes |= gather(eq(word, '\\')) << shift;
+                //Brackets and braces only differ in bit 5, so setting it finds both with one comparison
+                long lowered = word | (0x20 * ONES);
+                structurals |= gather(eq(lowered, '{') | eq(lowered, '}') | eq(word, ':') | eq(word, ',')) << shift;
+                apostrophes |= gather(eq(word, '\'')) << shift;
+            }
+            masks[0] = quotes;
+            masks[1] = backslashes;
+            masks[2] = structurals;
+            masks[3] = apostrophes;
+        }
+
+        /**
+         * Indexes a block byte by byte, skipping over char literals.
+         * @param json the buffer holding the UTF-8 bytes of the document.
+         * @param base the index of the block within the document.
+         * @param state the escape carry, the in-String carry and the end of the last char literal, which are read and updated.
+         * @return the mask of the positions within the block.
+         */
+        private static long scanBlock(ByteBuffer json, int base, long[] state){
+            boolean escaped = state[0] != 0, inString = state[1] != 0;
+            int literalEnd = (int) state[2];
+            int end = Math.min(base + 64, json.limit());
+            long bits = 0;
+            for (int i = Math.max(base, literalEnd); i < end; i++){
+                byte b = json.get(i);
+                if (inString){
+                    if (escaped){
+                        escaped = false;
+                    } else if (b == '\\'){
+                        escaped = true;
+                    } else if (b == '\"'){
+                        inString = false;
+                        bits |= 1L << (i - base);
+                    }
+                } else if (b == '\"'){
+                    inString = true;
+                    bits |= 1L << (i - base);
+                } else if (b == '\''){
+                    //An ASCII char literal is 3 bytes long (4 if escaped, 8 if escaped as a code unit). Any other one is closed by the next single quote, as none of its bytes can be one
+                    int j = i + 1;
+                    if (j < json.limit() && json.get(j) >= 0){
+                        if (json.get(j) != '\\')
+                            j += 1;
+                        else
+                            j += (j + 1 < json.limit() && json.get(j + 1) == 'u') ? 6 : 2;
+                    } else {
+                        while (j < json.limit() && json.get(j) != '\'')
+                            j++;
+                    }
+                    //The literal may well go on into the next block, which is then indexed byte by byte as well
+                    literalEnd = j + 1;
+                    i = j;
+                } else if (b == '{' || b == '}' || b == '[' || b == ']' || b == ':' || b == ','){
+                    bits |= 1L << (i - base);
+                }
+            }
+            state[0] = escaped ? 1 : 0;
+            state[1] = inString ? -1 : 0;
+            state[2] = literalEnd;
+            return bits;
+        }
+
+        /**
+         * Pairs up the opening and closing brackets and braces.
+         * @return the matches, see {@code matches}.
+         * @throws DSONException if they do not match up.
+         */
+        private static int[] matchBrackets(ByteBuffer json, int[] positions, int count) throws DSONException{
+            int[] matches = new int[count];
+            int[] stack = new int[64];
+            int depth = 0;
+            for (int k = 0; k < count; k++){
+                matches[k] = -1;
+                byte b = json.get(positions[k]);
+                if (b == '{' || b == '['){
+                    if (depth == stack.length)
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    stack[depth++] = k;
+                } else if (b == '}' || b == ']'){
+                    if (depth == 0)
+                        throw new DSONException();
+                    int open = stack[--depth];
+                    if (json.get(positions[open]) != (b == '}' ? '{' : '['))
+                        throw new DSONException();
+                    matches[open] = k;
+                    matches[k] = open;
+                }
+            }
+            if (depth != 0)
+                throw new DSONException();
+            return matches;
+        }
+    }
+
+    /**
+     * A {@code ByteCursor} which uses a {@code StructuralIndex} of its document. Values are stepped over by jumping to the position of their closing bracket, brace or quote,
+     * and Strings are cut out of the document without scanning them for their closing quote.
+     * @author MaximusHartanto
+     */
+    static final class IndexedCursor extends ByteCursor {
+        private final StructuralIndex index;
+        /**
+         * The index (within the structural positions) of the next position, if the cursor has only moved forward since it was last used. Used to avoid searching for it.
+         */
+        private int next;
+
+        IndexedCursor(ByteBuffer json, StructuralIndex index){
+            super(json);
+            this.index = index;
+        }
+
+        /**
+         * Counts the elements of an array by the commas between them, stepping over nested values through the index instead of reading them.
+         */
+        @Override
+        int countElements() throws DSONException{
+            peek();
+            if (charAt(pos) != '[')
+                throw new DSONException();
+            int resume = next;
+            int open = find(pos);
+            next = resume;
+            int[] positions = index.positions;
+            int close = index.matches[open];
+            int count = 0;
+            for (int k = open + 1; k < close; ){
+                char c = charAt(positions[k]);
+                if (c == '{' || c == '['){
+                    k = index.matches[k] + 1;
+                } else if (c == '\"'){
+                    k += 2;
+                } else {
+                    if (c == ',')
+                        count++;
+                    k++;
+                }
+            }
+            //There is one more element than there are commas, unless there are none at all
+            int at = pos + 1;
+            char c;
+            while ((c = charAt(at)) == ' ' || c == '\n' || c == '\r' || c == '\t')
+                at++;
+            return (at == positions[close]) ? 0 : count + 1;
+        }
+
+        /**
+         * Finds a structural position in the index.
+         * @param position the position within the document, which must be a structural one.
+         * @return the index of the position within the structural positions.
+         * @throws DSONException if the position is not in the index.
+         */
+        private int find(int position) throws DSONException{
+            int[] positions = index.positions;
+            int k = next;
+            //Parsing mostly moves forward through the positions one by one, so the next one is tried first
+            if (k >= index.count || positions[k] != position)
+                k = Arrays.binarySearch(positions, 0, index.count, position);
+            if (k < 0)
+                throw new DSONException();
+            next = k + 1;
+            return k;
+        }
+
+        @Override
+        void skipValue() throws DSONException{
+            char c = peek();
+            if (c == '{' || c == '['){
+                int close = index.matches[find(pos)];
+                pos = index.positions[close] + 1;
+                next = close + 1;
+            } else if (c == '\"'){
+                skipString();
+            } else {
+                super.skipValue();
+            }
+        }
+
+        @Override
+        void skipString() throws DSONException{
+            peek();
+            int open = find(pos);
+            if (charAt(pos) != '\"' || open + 1 >= index.count)
+                throw new DSONException();
+            pos = index.positions[open + 1] + 1;
+            next = open + 2;
+        }
+
+        @Override
+        String readString() throws DSONException{
+            peek();
+            int open = find(pos);
+            if (charAt(pos) != '\"' || open + 1 >= index.count)
+                throw new DSONException();
+            int close = index.positions[open + 1];
+            String result = substring(pos + 1, close);
+            if (result.indexOf('\\') >= 0){
+                //Escape sequences are decoded by the plain scan, which ends at the same closing quote
+                result = super.readString();
+            } else {
+                pos = close + 1;
+            }
+            next = open + 2;
+            return result;
+        }
+    }
+
+    /**
+     * Converts decimal numbers, given as a 19-digit (at most) mantissa w and a power of ten q, into the nearest double or float: w * 10^q.
+     * <br><br>
+     * Small values which are exact in floating point are computed directly, since a single multiplication or division by an exact power of ten is then correctly rounded.
+     * All others go through the Eisel-Lemire algorithm, which multiplies w by a 128-bit truncation of 5^q and reads the result off the upper bits of the product.
+     * In the rare cases where the truncation leaves the rounding ambiguous, NaN is returned and the caller falls back to the JDK's parser.
+     * @author MaximusHartanto
+     */
+    static final class DecimalParser {
+        private static final int SMALLEST_POWER = -342, LARGEST_POWER = 308;
+        /**
+         * The 128-bit approximations of 5^q for every q between {@code SMALLEST_POWER} and {@code LARGEST_POWER}, normalized so that their top bit is set.
+         * Entry 2 * (q - SMALLEST_POWER) holds the upper 64 bits, and the entry after it the lower 64 bits.
+         */
+        private static final long[] POWERS_OF_FIVE = powersOfFive();
+        private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+        };
+        private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+        };
+
+        private DecimalParser(){
+        }
+
+        /**
+         * Computes the table of powers of five. Negative powers are rounded up and positive ones truncated, which is what the algorithm's error bounds assume.
+         * @return the table.
+         */
+        private static long[] powersOfFive(){
+            long[] table = new long[2 * (LARGEST_POWER - SMALLEST_POWER + 1)];
+            BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+            for (int q = SMALLEST_POWER; q <= LARGEST_POWER; q++){
+                BigInteger power;
+                if (q < 0){
+                    BigInteger divisor = BigInteger.valueOf(5).pow(-q);
+                    int z = divisor.bitLength();
+                    int b = (q >= -27) ? z + 127 : 2 * z + 128;
+                    power = BigInteger.ONE.shiftLeft(b).divide(divisor).add(BigInteger.ONE);
+                    while (power.compareTo(two128) >= 0)
+                        power = power.shiftRight(1);
+                } else {
+                    power = BigInteger.valueOf(5).pow(q);
+                    power = power.shiftLeft(Math.max(0, 128 - power.bitLength()));
+                    power = power.shiftRight(Math.max(0, power.bitLength() - 128));
+                }
+                int index = 2 * (q - SMALLEST_POWER);
+                table[index] = power.shiftRight(64).longValue();
+                table[index + 1] = power.longValue();
+            }
+            return table;
+        }
+
+        /**
+         * Converts w * 10^q into the nearest double.
+         * @param w the decimal mantissa, at most 19 digits, as an unsigned long.
+         * @param q the power of ten.
+         * @param negative whether the number is negative.
+         * @return the nearest double, or NaN if it cannot be decided here.
+         */
+        static double toDouble(long w, int q, boolean negative){
+            double value;
+            if (w == 0){
+                value = 0;
+            } else if (-22 <= q && q <= 22 && 0 < w && w <= (1L << 53)){
+                value = (q < 0) ? w / DOUBLE_POWERS_OF_TEN[-q] : w * DOUBLE_POWERS_OF_TEN[q];
+            } else {
+                long bits = eiselLemire(w, q, 52, -1023, 0x7ff, -4, 23, -342, 308);
+                if (bits < 0)
+                    return Double.NaN;
+                value = Double.longBitsToDouble(bits);
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * Converts w * 10^q into the nearest float. This is computed directly, rather than by rounding the nearest double, as rounding twice can be off by one.
+         * @param w the decimal mantissa, at most 19 digits, as an unsigned long.
+         * @param q the power of ten.
+         * @param negative whether the number is negative.
+         * @return the nearest float, or NaN if it cannot be decided here.
+         */
+        static float toFloat(long w, int q, boolean negative){
+            float value;
+            if (w == 0){
+                value = 0;
+            } else if (-10 <= q && q <= 10 && 0 < w && w <= (1L << 24)){
+                value = (q < 0) ? w / FLOAT_POWERS_OF_TEN[-q] : w * FLOAT_POWERS_OF_TEN[q];
+            } else {
+                long bits = eiselLemire(w, q, 23, -127, 0xff, -17, 10, -65, 38);
+                if (bits < 0)
+                    return Float.NaN;
+                value = Float.intBitsToFloat((int) bits);
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * The Eisel-Lemire algorithm, for any binary floating point format.
+         * @param w the decimal mantissa, not zero.
+         * @param q the power of ten.
+         * @param mantissaBits the number of explicitly stored mantissa bits of the format.
+         * @param minExponent the exponent bias of the format, negated.
+         * @param infinitePower the biased exponent of infinity.
+         * @param minRoundToEven the smallest q for which a product can be exactly halfway between two values.
+         * @param maxRoundToEven the largest q for which a product can be exactly halfway between two values.
+         * @param smallestPower the largest q below which every w rounds to zero.
+         * @param largestPower the smallest q above which every w rounds to infinity.
+         * @return the bits of the result, or -1 if the rounding cannot be decided.
+         */
+        private static long eiselLemire(long w, int q, int mantissaBits, int minExponent, int infinitePower, int minRoundToEven, int maxRoundToEven, int smallestPower, int largestPower){
+            if (q < smallestPower)
+                return 0;
+            if (q > largestPower)
+                return (long) infinitePower << mantissaBits;
+            int lz = Long.numberOfLeadingZeros(w);
+            w <<= lz;
+            //The product only has to be accurate in its upper mantissaBits + 3 bits, which the upper half of the table entry is nearly always enough for
+            int index = 2 * (q - SMALLEST_POWER);
+            long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+            long low = w * POWERS_OF_FIVE[index];
+            long precisionMask = -1L >>> (mantissaBits + 3);
+            if ((high & precisionMask) == precisionMask){
+                long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+                low += secondHigh;
+                if (Long.compareUnsigned(secondHigh, low) > 0)
+                    high++;
+            }
+            //Outside of this range, 5^q is not exact in 128 bits, so a product this close to the next value could still round either way
+            if (low == -1L && (q < -27 || q > 55))
+                return -1;
+            int upperBit = (int) (high >>> 63);
+            long mantissa = high >>> (upperBit + 64 - mantissaBits - 3);
+            //floor(log2(10^q)) + 63, the power of two that the product is scaled by
+            int power2 = (int) (((152170L + 65536L) * q) >> 16) + 63 + upperBit - lz - minExponent;
+            if (power2 <= 0){
+                //Subnormal numbers
+                if (-power2 + 1 >= 64)
+                    return 0;
+                mantissa >>>= -power2 + 1;
+                mantissa += (mantissa & 1);
+                mantissa >>>= 1;
+                power2 = (mantissa < (1L << mantissaBits)) ? 0 : 1;
+                return mantissa | ((long) power2 << mantissaBits);
+            }
+            //Products which are exactly halfway between two values are rounded to even
+            if (Long.compareUnsigned(low, 1) <= 0 && q >= minRoundToEven && q <= maxRoundToEven && (mantissa & 3) == 1){
+                if ((mantissa << (upperBit + 64 - mantissaBits - 3)) == high)
+                    mantissa &= ~1L;
+            }
+            mantissa += (mantissa & 1);
+            mantissa >>>= 1;
+            if (mantissa >= (2L << mantissaBits)){
+                mantissa = 1L << mantissaBits;
+                power2++;
+            }
+            mantissa &= ~(1L << mantissaBits);
+            if (power2 >= infinitePower)
+                return (long) infinitePower << mantissaBits;
+            return mantissa | ((long) power2 << mantissaBits);
+        }
+
+        /**
+         * Computes the upper 64 bits of the unsigned 128-bit product of two longs.
+         * @param a the first factor, as an unsigned long.
+         * @param b the second factor, as an unsigned long.
+         * @return the upper 64 bits of a * b.
+         */
+        private static long unsignedMultiplyHigh(long a, long b){
+            return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+        }
+    }
+
+    /**
+     * Formats doubles and floats into the shortest decimal that parses back to the same value, using the Schubfach algorithm.
+     * The output has the same shape as {@code Double.toString()}, e.g. 0.5, 100.0, 1.0E10 or 1.0E-5, but is written into a reusable byte buffer instead of a new String.
+     * <br><br>
+     * The shortest decimal is picked from the rounding interval of the value, whose bounds are computed with a 126-bit approximation of the matching power of ten.
+     * @author MaximusHartanto
+     */
+    static final class DecimalFormatter {
+        private static final int K_MIN = -324, K_MAX = 292;
+        /**
+         * For every k between {@code K_MIN} and {@code K_MAX}, floor(10^-k * 2^-r) + 1, where r is picked so that the value has 126 bits.
+         * Entry 2 * (k - K_MIN) holds its upper 63 bits, and the entry after it the lower 63 bits.
+         */
+        private static final long[] G = powersOfTen();
+        private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L
+        };
+        private static final long MASK_63 = (1L << 63) - 1, MASK_32 = (1L << 32) - 1;
+        private static final int MASK_28 = (1 << 28) - 1;
+
+        /**
+         * The formatted characters, all of which are ASCII, and how many of them there are.
+         */
+        final byte[] bytes = new byte[32];
+        int length;
+
+        /**
+         * Computes the table of powers of ten.
+         * @return the table.
+         */
+        private static long[] powersOfTen(){
+            long[] table = new long[2 * (K_MAX - K_MIN + 1)];
+            for (int k = K_MIN; k <= K_MAX; k++){
+                int r = flog2pow10(-k) - 125;
+                BigInteger numerator = (k <= 0) ? BigInteger.TEN.pow(-k) : BigInteger.ONE;
+                BigInteger denominator = (k <= 0) ? BigInteger.ONE : BigInteger.TEN.pow(k);
+                if (r < 0)
+                    numerator = numerator.shiftLeft(-r);
+                else
+                    denominator = denominator.shiftLeft(r);
+                BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+                int index = 2 * (k - K_MIN);
+                table[index] = g.shiftRight(63).longValue();
+                table[index + 1] = g.longValue() & MASK_63;
+            }
+            return table;
+        }
+
+        /**
+         * floor(e * log10(2)), for |e| <= 6,432.
+         */
+        private static int flog10pow2(int e){
+            return (int) (e * 661_971_961_083L >> 41);
+        }
+
+        /**
+         * floor(log10(3/4 * 2^e)), for |e| <= 3,000.
+         */
+        private static int flog10threeQuartersPow2(int e){
+            return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+        }
+
+        /**
+         * floor(e * log2(10)), for |e| <= 1,233.
+         */
+        private static int flog2pow10(int e){
+            return (int) (e * 913_124_641_741L >> 38);
+        }
+
+        /**
+         * Formats a double into {@code bytes}.
+         * @param v the double to be formatted.
+         */
+        void formatDouble(double v){
+            length = 0;
+            long bits = Double.doubleToRawLongBits(v);
+            long t = bits & ((1L << 52) - 1);
+            int bq = (int) (bits >>> 52) & 0x7ff;
+            if (bq == 0x7ff){
+                append(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+                return;
+            }
+            if (bits < 0)
+                append('-');
+            if (bq != 0){
+                //Normal values, which are c * 2^-mq
+                int mq = 1074 + 1 - bq;
+                long c = (1L << 52) | t;
+                //Integers below 2^53 are their own shortest decimal
+                if (0 < mq && mq < 53){
+                    long f = c >> mq;
+                    if (f << mq == c){
+                        toChars(f, 0);
+                        return;
+                    }
+                }
+                toDecimal(-mq, c, 0);
+            } else if (t != 0){
+                //Subnormal values. The smallest few need one extra digit of precision to be told apart
+                if (t < 3)
+                    toDecimal(-1074, 10 * t, -1);
+                else
+                    toDecimal(-1074, t, 0);
+            } else {
+                append("0.0");
+            }
+        }
+
+        /**
+         * Finds the shortest decimal within the rounding interval of c * 2^q, and formats it.
+         * @param q the binary exponent.
+         * @param c the binary significand.
+         * @param dk the adjustment of the decimal exponent, for significands which were scaled up by 10.
+         */
+        private void toDecimal(int q, long c, int dk){
+            int out = (int) c & 0x1;
+            long cb = c << 2;
+            long cbr = cb + 2;
+            long cbl;
+            int k;
+            //The interval is asymmetric at powers of two, as the gap to the next value below is half as large
+            if (c != (1L << 52) || q == -1074){
+                cbl = cb - 2;
+                k = flog10pow2(q);
+            } else {
+                cbl = cb - 1;
+                k = flog10threeQuartersPow2(q);
+            }
+            int h = q + flog2pow10(-k) + 2;
+            long g1 = G[2 * (k - K_MIN)];
+            long g0 = G[2 * (k - K_MIN) + 1];
+            long vb = roundToOdd(g1, g0, cb << h);
+            long vbl = roundToOdd(g1, g0, cbl << h);
+            long vbr = roundToOdd(g1, g0, cbr << h);
+            long s = vb >> 2;
+            if (s >= 100){
+                //Tries one digit less first, i.e. a multiple of 10 within the interval
+                long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+                long tp10 = sp10 + 10;
+                boolean upin = vbl + out <= sp10 << 2;
+                boolean wpin = (tp10 << 2) + out <= vbr;
+                if (upin != wpin){
+                    toChars(upin ? sp10 : tp10, k);
+                    return;
+                }
+            }
+            long t = s + 1;
+            boolean uin = vbl + out <= s << 2;
+            boolean win = (t << 2) + out <= vbr;
+            if (uin != win){
+                toChars(uin ? s : t, k + dk);
+                return;
+            }
+            //Both are within the interval, so the closer one is picked, ties going to even
+            long cmp = vb - (s + t << 1);
+            toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+        }
+
+        /**
+         * Computes g * cp / 2^127, rounded to odd.
+         */
+        private static long roundToOdd(long g1, long g0, long cp){
+            long x1 = Math.multiplyHigh(g0, cp);
+            long y0 = g1 * cp;
+            long y1 = Math.multiplyHigh(g1, cp);
+            long z = (y0 >>> 1) + x1;
+            long vbp = y1 + (z >>> 63);
+            return vbp | (z & MASK_63) + MASK_63 >>> 63;
+        }
+
+        /**
+         * Formats a float into {@code bytes}.
+         * @param v the float to be formatted.
+         */
+        void formatFloat(float v){
+            length = 0;
+            int bits = Float.floatToRawIntBits(v);
+            int t = bits & ((1 << 23) - 1);
+            int bq = (bits >>> 23) & 0xff;
+            if (bq == 0xff){
+                append(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+                return;
+            }
+            if (bits < 0)
+                append('-');
+            if (bq != 0){
+                int mq = 149 + 1 - bq;
+                int c = (1 << 23) | t;
+                if (0 < mq && mq < 24){
+                    int f = c >> mq;
+                    if (f << mq == c){
+                        floatToChars(f, 0);
+                        return;
+                    }
+                }
+                toDecimal(-mq, c, 0);
+            } else if (t != 0){
+                if (t < 8)
+                    toDecimal(-149, 10 * t, -1);
+                else
+                    toDecimal(-149, t, 0);
+            } else {
+                append("0.0");
+            }
+        }
+
+        /**
+         * The float counterpart of {@code toDecimal(int, long, int)}, which only needs the upper half of the power of ten.
+         */
+        private void toDecimal(int q, int c, int dk){
+            int out = c & 0x1;
+            long cb = (long) c << 2;
+            long cbr = cb + 2;
+            long cbl;
+            int k;
+            if (c != (1 << 23) || q == -149){
+                cbl = cb - 2;
+                k = flog10pow2(q);
+            } else {
+                cbl = cb - 1;
+                k = flog10threeQuartersPow2(q);
+            }
+            int h = q + flog2pow10(-k) + 33;
+            long g = G[2 * (k - K_MIN)] + 1;
+            int vb = roundToOdd(g, cb << h);
+            int vbl = roundToOdd(g, cbl << h);
+            int vbr = roundToOdd(g, cbr << h);
+            int s = vb >> 2;
+            if (s >= 100){
+                int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+                int tp10 = sp10 + 10;
+                boolean upin = vbl + out <= sp10 << 2;
+                boolean wpin = (tp10 << 2) + out <= vbr;
+                if (upin != wpin){
+                    floatToChars(upin ? sp10 : tp10, k);
+                    return;
+                }
+            }
+            int t = s + 1;
+            boolean uin = vbl + out <= s << 2;
+            boolean win = (t << 2) + out <= vbr;
+            if (uin != win){
+                floatToChars(uin ? s : t, k + dk);
+                return;
+            }
+            int cmp = vb - (s + t << 1);
+            floatToChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+        }
+
+        /**
+         * Computes g * cp / 2^95, rounded to odd.
+         */
+        private static int roundToOdd(long g, long cp){
+            long x1 = Math.multiplyHigh(g, cp);
+            long vbp = x1 >>> 31;
+            return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+        }
+
+        /**
+         * Formats the decimal f * 10^e of a double, which has at most 17 digits.
+         */
+        private void toChars(long f, int e){
+            int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+            if (f >= POWERS_OF_TEN[len])
+                len++;
+            //Scales f to exactly 17 digits, so that the number is 0.f * 10^e
+            f *= POWERS_OF_TEN[17 - len];
+            e += len;
+            //Splits f into its first digit h, the 8 digits after it m, and the last 8 digits l
+            long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+            int l = (int) (f - 100_000_000L * hm);
+            int h = (int) (hm * 1_441_151_881L >>> 57);
+            int m = (int) (hm - 100_000_000 * h);
+            toChars(h, m, l, e);
+        }
+
+        /**
+         * Formats the decimal f * 10^e of a float, which has at most 9 digits.
+         */
+        private void floatToChars(int f, int e){
+            int len = flog10pow2(Integer.SIZE - Integer.numberOfLeadingZeros(f));
+            if (f >= POWERS_OF_TEN[len])
+                len++;
+            f *= (int) POWERS_OF_TEN[9 - len];
+            e += len;
+            int h = (int) (f * 1_441_151_881L >>> 57);
+            int l = f - 100_000_000 * h;
+            toChars(h, l, 0, e);
+        }
+
+        /**
+         * Lays out the digits 0.hml * 10^e the way {@code Double.toString()} does: plainly between 10^-3 and 10^7, and in scientific notation otherwise.
+         * @param h the first digit.
+         * @param m the next 8 digits.
+         * @param l the last 8 digits, which are 0 for floats.
+         * @param e the decimal exponent.
+         */
+        private void toChars(int h, int m, int l, int e){
+            if (0 < e && e <= 7){
+                //e.g. 123.45
+                appendDigit(h);
+                int y = y(m);
+                int i = 1;
+                for (; i < e; i++){
+                    int t = 10 * y;
+                    appendDigit(t >>> 28);
+                    y = t & MASK_28;
+                }
+                append('.');
+                for (; i <= 8; i++){
+                    int t = 10 * y;
+                    appendDigit(t >>> 28);
+                    y = t & MASK_28;
+                }
+                lowDigits(l);
+            } else if (-3 < e && e <= 0){
+                //e.g. 0.0012345
+                append('0');
+                append('.');
+                for (; e < 0; e++)
+                    append('0');
+                appendDigit(h);
+                append8Digits(m);
+                lowDigits(l);
+            } else {
+                //e.g. 1.2345E-7
+                appendDigit(h);
+                append('.');
+                append8Digits(m);
+                lowDigits(l);
+                exponent(e - 1);
+            }
+        }
+
+        /**
+         * Appends the last 8 digits, if they are not all zeros, and removes the trailing zeros of the fraction (but keeps at least one digit after the point).
+         */
+        private void lowDigits(int l){
+            if (l != 0)
+                append8Digits(l);
+            while (bytes[length - 1] == '0')
+                length--;
+            if (bytes[length - 1] == '.')
+                length++;
+        }
+
+        /**
+         * Appends exactly 8 digits, including leading zeros. The digits are extracted from left to right out of a 28-bit fixed point fraction, which avoids divisions.
+         */
+        private void append8Digits(int m){
+            int y = y(m);
+            for (int i = 0; i < 8; i++){
+                int t = 10 * y;
+                appendDigit(t >>> 28);
+                y = t & MASK_28;
+            }
+        }
+
+        /**
+         * Computes floor((a + 1) * 2^28 / 10^8) - 1, i.e. a / 10^8 as a 28-bit fixed point fraction.
+         */
+        private static int y(int a){
+            return (int) (Math.multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+        }
+
+        private void exponent(int e){
+            append('E');
+            if (e < 0){
+                append('-');
+                e = -e;
+            }
+            if (e < 10){
+                appendDigit(e);
+                return;
+            }
+            int d;
+            if (e >= 100){
+                d = e * 1_311 >>> 17;
+                appendDigit(d);
+                e -= 100 * d;
+            }
+            d = e * 103 >>> 10;
+            appendDigit(d);
+            appendDigit(e - 10 * d);
+        }
+
+        private void appendDigit(int d){
+            bytes[length++] = (byte) ('0' + d);
+        }
+
+        private void append(char c){
+            bytes[length++] = (byte) c;
+        }
+
+        private void append(String s){
+            for (int i = 0; i < s.length(); i++)
+                append(s.charAt(i));
+        }
+    }
+
+    /**
+     * Reflective metadata about a class, computed once per class and shared by both {@code serialize()} and {@code DSONObject}.
+     * This holds the fields that take part in (de)serialization, in declaration order, together with their external names and element types.
+     * <br><br>
+     * Static and transient fields, fields marked with {@code DSON.DoNotSerialize} and fields which cannot be made accessible are left out.
+     * @author MaximusHartanto
+     */
+    static final class ClassLayout {
+        private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<>() {
+            @Override
+            protected ClassLayout computeValue(Class<?> type){
+                return new ClassLayout(type);
+            }
+        };
+
+        final Class<?> type;
+        final FieldInfo[] fields;
+        /**
+         * Look up fields by name, in the units read by {@code CharCursor}s and {@code ByteCursor}s respectively.
+         */
+        final NameMatcher charNames, byteNames;
+        /**
+         * The generated codec of the class. Null until it is first needed, and empty if no codec can be generated for this class.
+         */
+        private volatile Optional<GeneratedCodec> codec;
+        /**
+         * Creates new instances of the class through its no-arg constructor. Null until it is first needed, and empty if the class cannot be instantiated.
+         */
+        private volatile Optional<Supplier<Object>> instantiator;
+
+        /**
+         * Inspects the fields of a class. This is only ever called once per class, see {@code of()}.
+         * @param objectClass the class to be inspected.
+         */
+        private ClassLayout(Class<?> objectClass){
+            this.type = objectClass;
+            List<FieldInfo> result = new ArrayList<>();
+            //A later field of the same name replaces an earlier one
+            Map<String,FieldInfo> byName = new LinkedHashMap<>();
+            for (Field field : objectClass.getDeclaredFields()){
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))
+                    continue;
+                //Bypassing privacy
+                if (!field.trySetAccessible())
+                    continue;
+                //Do not parse a field that the user does not want parsed
+                if (field.isAnnotationPresent(DoNotSerialize.class))
+                    continue;
+                FieldInfo info = new FieldInfo(field, result.size());
+                result.add(info);
+                byName.put(info.name, info);
+            }
+            fields = result.toArray(new FieldInfo[0]);
+            FieldInfo[] named = byName.values().toArray(new FieldInfo[0]);
+            charNames = new NameMatcher(named, false);
+            byteNames = new NameMatcher(named, true);
+        }
+
+        /**
+         * Gets the layout of a class, computing it on first use.
+         * @param objectClass the class of which the layout is needed.
+         * @return the cached layout of the class.
+         */
+        static ClassLayout of(Class<?> objectClass){
+            return LAYOUTS.get(objectClass);
+        }
+
+        /**
+         * Gets the generated codec of the class, generating it on first use. This also hands out the generated accessors to the fields.
+         * @return the codec, or null if no codec can be generated for this class.
+         */
+        GeneratedCodec codec(){
+            Optional<GeneratedCodec> result = codec;
+            if (result == null){
+                synchronized (this){
+                    result = codec;
+                    if (result == null){
+                        result = Optional.ofNullable(CodecGenerator.generate(type, fields));
+                        result.ifPresent(generated -> {
+                            for (FieldInfo field : fields)
+                                field.useCodec(generated);
+                        });
+                        codec = result;
+                    }
+                }
+            }
+            return result.orElse(null);
+        }
+
+        /**
+         * Creates a new instance of the class through its no-arg constructor, which may be non-public. The fastest way of calling the constructor is resolved on first use.
+         * @return the new instance.
+         * @throws DSONException if the class does not have a no-arg constructor, cannot be instantiated, or the constructor throws.
+         */
+        Object newInstance() throws DSONException{
+            Optional<Supplier<Object>> result = instantiator;
+            if (result == null){
+                //Resolving twice in a race is harmless, as both results are equivalent
+                result = Optional.ofNullable(resolveInstantiator(type));
+                instantiator = result;
+            }
+            if (result.isEmpty())
+                throw new DSONException();
+            try {
+                return result.get().get();
+            }
+            catch(Exception e){
+                throw new DSONException(e);
+            }
+        }
+
+        /**
+         * Finds the fastest way of calling the no-arg constructor of a class. In order of preference, this is a {@code Supplier} spun by the {@code LambdaMetafactory},
+         * which the JIT compiles down to a plain {@code new}, then a {@code MethodHandle} to the constructor, and then core reflection for classes which are closed to DSON.DSON.
+         * @param type the class to be instantiated.
+         * @return the instantiator, or null if the class cannot be instantiated.
+         */
+        @SuppressWarnings("unchecked")
+        private static Supplier<Object> resolveInstantiator(Class<?> type){
+            if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers()))
+                return null;
+            Constructor<?> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+            }
+            catch(NoSuchMethodException e){
+                return null;
+            }
+            MethodHandle handle;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                            MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+                    return (Supplier<Object>) site.getTarget().invoke();
+                }
+                catch(Throwable e){
+                    //E.g. hidden classes, which the generated lambda class cannot refer to
+                }
+            }
+            catch(Exception e){
+                handle = null;
+            }
+            if (handle != null){
+                MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+                return () -> {
+                    try {
+                        return generic.invokeExact();
+                    }
+                    catch(RuntimeException | Error e){
+                        throw e;
+                    }
+                    catch(Throwable e){
+                        throw new UndeclaredThrowableException(e);
+                    }
+                };
+            }
+            if (!constructor.trySetAccessible())
+                return null;
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                }
+                catch(ReflectiveOperationException e){
+                    throw new UndeclaredThrowableException(e);
+                }
+            };
+        }
+    }
+
+    /**
+     * Looks up the fields of a class by the name a {@code Cursor} has just read, by comparing the name in place instead of creating a String for it.
+     * The names are bucketed by their length, and the names within a bucket are told apart by their first unit before the rest of them is compared.
+     * <br><br>
+     * A matcher compares either characters or UTF-8 bytes, whichever units the cursor reads. Both are compared as chars, as that is what {@code Cursor.charAt()} returns.
+     * @author MaximusHartanto
+     */
+    static final class NameMatcher {
+        /**
+         * The fields, and the units of their names, bucketed by the number of units.
+         */
+        private final FieldInfo[][] fields;
+        private final char[][][] names;
+
+        /**
+         * Builds the buckets of a matcher.
+         * @param fields the fields to be matched, which must have distinct names.
+         * @param utf8 whether names are matched by their UTF-8 bytes rather than their characters.
+         */
+        NameMatcher(FieldInfo[] fields, boolean utf8){
+            char[][] units = new char[fields.length][];
+            int longest = 0;
+            for (int i = 0; i < fields.length; i++){
+                if (utf8){
+                    byte[] bytes = fields[i].nameBytes;
+                    units[i] = new char[bytes.length];
+                    for (int j = 0; j < bytes.length; j++)
+                        units[i][j] = (char) (bytes[j] & 0xff);
+                } else {
+                    units[i] = fields[i].name.toCharArray();
+                }
+                longest = Math.max(longest, units[i].length);
+            }
+            this.fields = new FieldInfo[longest + 1][0];
+            this.names = new char[longest + 1][0][];
+            for (int i = 0; i < fields.length; i++){
+                int length = units[i].length;
+                int size = this.fields[length].length;
+                this.fields[length] = Arrays.copyOf(this.fields[length], size + 1);
+                this.names[length] = Arrays.copyOf(this.names[length], size + 1);
+                this.fields[length][size] = fields[i];
+                this.names[length][size] = units[i];
+            }
+        }
+
+        /**
+         * Finds the field whose name is held by a cursor.
+         * @param cursor the cursor holding the name.
+         * @param start the index of the first unit of the name.
+         * @param length the number of units in the name.
+         * @return the field, or null if there is no field of that name.
+         */
+        FieldInfo match(Cursor cursor, int start, int length){
+            if (length == 0 || length >= fields.length)
+                return null;
+            char[][] candidates = names[length];
+            char first = cursor.charAt(start);
+            for (int k = 0; k < candidates.length; k++){
+                char[] name = candidates[k];
+                if (name[0] != first)
+                    continue;
+                int i = 1;
+                while (i < length && name[i] == cursor.charAt(start + i))
+                    i++;
+                if (i == length)
+                    return fields[length][k];
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Metadata about a single field of a {@code ClassLayout}.
+     * The external name and generic element types are resolved once here, so they do not have to be looked up on every (de)serialization.
+     * @author MaximusHartanto
+     */
+    static final class FieldInfo {
+        final Field field;
+        final Class<?> type;
+        /**
+         * The name the field is reflected as in JSON, which is either its {@code DSON.Rename} value or its lowercased name.
+         */
+        final String name;
+        /**
+         * The name encoded in UTF-8, which names are matched against when parsing bytes.
+         */
+        final byte[] nameBytes;
+        /**
+         * What is written in front of the field's value, e.g. {@code weight:} for the first field and {@code ,tasty:} for the others, already escaped.
+         * Precomputed in both forms so that sinks can write it with a single copy.
+         */
+        final char[] prefix;
+        final byte[] prefixBytes;
+        /**
+         * The element type of a {@code List} or {@code Set} field, e.g. List<TestSuite.Apple> -> TestSuite.Apple. Null for other fields.
+         */
+        final Class<?> elementType;
+        /**
+         * The key & value types of a {@code Map} field, e.g. Map<Integer, String> -> Integer, String. Null for other fields.
+         */
+        final Class<?> keyType, valueType;
+        /**
+         * The index of the field within its {@code ClassLayout}.
+         */
+        final int slot;
+        /**
+         * The accessors of the field. The VarHandle one is null if the field cannot get a VarHandle, in which case the reflective one is used regardless of the access mode.
+         * The generated one is only set once the class's codec has been generated.
+         */
+        private final FieldAccessor reflective, varHandle;
+        private FieldAccessor generated;
+
+        /**
+         * Resolves the metadata of a field.
+         * @param field the field, which must already be accessible.
+         */
+        private FieldInfo(Field field, int slot){
+            this.field = field;
+            this.slot = slot;
+            this.type = field.getType();
+            this.name = (
+                field.isAnnotationPresent(Rename.class)
+                    ? field.getAnnotation(Rename.class).value()
+                    : field.getName().toLowerCase(Locale.ROOT)
+            );
+            this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            String prefix = (slot == 0 ? "" : ",") + escapeName(name) + ":";
+            this.prefix = prefix.toCharArray();
+            this.prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+            //These get metadata about container types (annoying type erasure)
+            Type[] arguments = (
+                field.getGenericType() instanceof ParameterizedType ptype
+                    ? ptype.getActualTypeArguments()
+                    : new Type[0]
+            );
+            boolean isContainer = (type == List.class || type == Set.class) && arguments.length == 1;
+            boolean isMap = type == Map.class && arguments.length == 2;
+            this.elementType = isContainer ? rawClass(arguments[0]) : null;
+            this.keyType = isMap ? rawClass(arguments[0]) : null;
+            this.valueType = isMap ? rawClass(arguments[1]) : null;
+            this.reflective = new ReflectiveAccessor(field);
+            this.varHandle = VarHandleAccessor.of(field);
+        }
+
+        /**
+         * Gets the accessor to be used for this field.
+         * @param mode the access mode to be used.
+         * @return the accessor for the given mode, or the reflective one if the mode is not available for this field.
+         */
+        FieldAccessor accessor(AccessMode mode){
+            if (mode == AccessMode.GENERATED && generated != null)
+                return generated;
+            return (mode != AccessMode.REFLECTION && varHandle != null) ? varHandle : reflective;
+        }
+
+        /**
+         * Switches this field over to the generated codec of its class, if the codec is able to write it.
+         * The codec cannot write final fields, nor primitive fields of types other than {@code int}, {@code double}, {@code float}, {@code boolean} and {@code char}.
+         * @param codec the generated codec of the field's class.
+         */
+        private void useCodec(GeneratedCodec codec){
+            boolean supported = !type.isPrimitive() || type == int.class || type == double.class || type == float.class || type == boolean.class || type == char.class;
+            if (supported && !Modifier.isFinal(field.getModifiers()))
+                generated = new GeneratedAccessor(codec, slot, type);
+        }
+
+        /**
+         * Escapes the characters of a name which cannot be written as-is, the same way as within Strings.
+         * Only names given by {@code DSON.Rename} can contain them, so this is done once per field instead of every time the name is written.
+         * @param name the name of the field.
+         * @return the escaped name.
+         */
+        private static String escapeName(String name){
+            StringBuilder result = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++){
+                char c = name.charAt(i);
+                if (c < 0x80 && Sink.ESCAPES[c] != null)
+                    result.append(Sink.ESCAPES[c]);
+                else
+                    result.append(c);
+            }
+            return result.toString();
+        }
+
+        /**
+         * Gets the class behind a generic type argument, e.g. {@code List<Integer> -> List}. Wildcards and type variables resolve to null.
+         * @param type the type argument.
+         * @return the class of the type argument, if there is one.
+         */
+        private static Class<?> rawClass(Type type){
+            if (type instanceof Class<?> c)
+                return c;
+            if (type instanceof ParameterizedType ptype)
+                return rawClass(ptype.getRawType());
+            return null;
+        }
+    }
+
+    /**
+     * Reads and writes the value of a single field. Accessors are resolved once per field and kept in its {@code FieldInfo}.
+     * <br><br>
+     * Besides the generic {@code get()} and {@code set()}, there are typed functions for the primitive types DSON supports, so that primitive fields can be read and written without boxing.
+     * @author MaximusHartanto
+     */
+    abstract static class FieldAccessor {
+        abstract Object get(Object o) throws DSONException;
+        abstract void set(Object o, Object value) throws DSONException;
+        abstract int getInt(Object o) throws DSONException;
+        abstract void setInt(Object o, int value) throws DSONException;
+        abstract double getDouble(Object o) throws DSONException;
+        abstract void setDouble(Object o, double value) throws DSONException;
+        abstract float getFloat(Object o) throws DSONException;
+        abstract void setFloat(Object o, float value) throws DSONException;
+        abstract boolean getBoolean(Object o) throws DSONException;
+        abstract void setBoolean(Object o, boolean value) throws DSONException;
+        abstract char getChar(Object o) throws DSONException;
+        abstract void setChar(Object o, char value) throws DSONException;
+    }
+
+    /**
+     * A {@code FieldAccessor} backed by core reflection ({@code Field.get()}/{@code Field.set()}). This is used in {@code AccessMode.REFLECTION}, and as a fallback for fields which cannot get a VarHandle (e.g. final fields).
+     * @author MaximusHartanto
+     */
+    static final class ReflectiveAccessor extends FieldAccessor {
+        private final Field field;
+
+        ReflectiveAccessor(Field field){
+            this.field = field;
+        }
+
+        @Override
+        Object get(Object o) throws DSONException{
+            try {
+                return field.get(o);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        void set(Object o, Object value) throws DSONException{
+            try {
+                field.set(o, value);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        int getInt(Object o) throws DSONException{
+            try {
+                return field.getInt(o);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        void setInt(Object o, int value) throws DSONException{
+            try {
+                field.setInt(o, value);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        double getDouble(Object o) throws DSONException{
+            try {
+                return field.getDouble(o);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        void setDouble(Object o, double value) throws DSONException{
+            try {
+                field.setDouble(o, value);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        float getFloat(Object o) throws DSONException{
+            try {
+                return field.getFloat(o);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        void setFloat(Object o, float value) throws DSONException{
+            try {
+                field.setFloat(o, value);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        boolean getBoolean(Object o) throws DSONException{
+            try {
+                return field.getBoolean(o);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        void setBoolean(Object o, boolean value) throws DSONException{
+            try {
+                field.setBoolean(o, value);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        char getChar(Object o) throws DSONException{
+            try {
+                return field.getChar(o);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+
+        @Override
+        void setChar(Object o, char value) throws DSONException{
+            try {
+                field.setChar(o, value);
+            } catch (Exception e){
+                throw new DSONException();
+            }
+        }
+    }
+
+    /**
+     * A {@code FieldAccessor} backed by a VarHandle, which is resolved once per field. This is used in {@code AccessMode.VAR_HANDLE}.
+     * <br><br>
+     * The typed functions invoke the VarHandle with the field's own primitive type, so no boxing takes place.
+     * @author MaximusHartanto
+     */
+    static final class VarHandleAccessor extends FieldAccessor {
+        private final VarHandle handle;
+
+        private VarHandleAccessor(VarHandle handle){
+            this.handle = handle;
+        }
+
+        /**
+         * Resolves a VarHandle for a field.
+         * @param field the field to be accessed.
+         * @return the accessor, or null if no writable VarHandle can be obtained for the field (final fields, or classes that are closed to DSON.DSON).
+         */
+        static VarHandleAccessor of(Field field){
+            if (Modifier.isFinal(field.getModifiers()))
+                return null;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                return new VarHandleAccessor(lookup.unreflectVarHandle(field));
+            } catch (Exception e){
+                return null;
+            }
+        }
+
+        @Override
+        Object get(Object o){
+            return handle.get(o);
+        }
+
+        @Override
+        void set(Object o, Object value){
+            handle.set(o, value);
+        }
+
+        @Override
+        int getInt(Object o){
+            return (int) handle.get(o);
+        }
+
+        @Override
+        void setInt(Object o, int value){
+            handle.set(o, value);
+        }
+
+        @Override
+        double getDouble(Object o){
+            return (double) handle.get(o);
+        }
+
+        @Override
+        void setDouble(Object o, double value){
+            handle.set(o, value);
+        }
+
+        @Override
+        float getFloat(Object o){
+            return (float) handle.get(o);
+        }
+
+        @Override
+        void setFloat(Object o, float value){
+            handle.set(o, value);
+        }
+
+        @Override
+        boolean getBoolean(Object o){
+            return (boolean) handle.get(o);
+        }
+
+        @Override
+        void setBoolean(Object o, boolean value){
+            handle.set(o, value);
+        }
+
+        @Override
+        char getChar(Object o){
+            return (char) handle.get(o);
+        }
+
+        @Override
+        void setChar(Object o, char value){
+            handle.set(o, value);
+        }
+    }
+
+    /**
+     * The base class of the codecs which DSON.DSON generates at runtime in {@code AccessMode.GENERATED}.
+     * A generated codec reads and writes the fields of one specific class directly, with plain field instructions instead of reflection.
+     * <br><br>
+     * This class is only public because generated codecs live in the package of the class they handle, and have to be able to extend it. It is not meant to be used or extended by hand.
+     * @author MaximusHartanto
+     */
+    public abstract static class GeneratedCodec {
+        protected GeneratedCodec(){
+        }
+
+        /**
+         * Writes all fields of an object as comma-separated {@code name:value} pairs, without the surrounding braces.
+         * @param o the object to be serialized.
+         * @param out the sink the JSON is written to.
+         * @throws DSONException if something has gone wrong while serializing a nested value.
+         */
+        public abstract void write(Object o, Sink out) throws DSONException;
+
+        //The functions below read or write the field with the given slot, i.e. its index in the class's field list
+        public abstract int getInt(Object o, int slot);
+        public abstract void setInt(Object o, int slot, int value);
+        public abstract double getDouble(Object o, int slot);
+        public abstract void setDouble(Object o, int slot, double value);
+        public abstract float getFloat(Object o, int slot);
+        public abstract void setFloat(Object o, int slot, float value);
+        public abstract boolean getBoolean(Object o, int slot);
+        public abstract void setBoolean(Object o, int slot, boolean value);
+        public abstract char getChar(Object o, int slot);
+        public abstract void setChar(Object o, int slot, char value);
+        public abstract Object getObject(Object o, int slot);
+        public abstract void setObject(Object o, int slot, Object value);
+    }
+
+    /**
+     * A {@code FieldAccessor} which goes through the generated codec of the field's class. This is used in {@code AccessMode.GENERATED}.
+     * @author MaximusHartanto
+     */
+    static final class GeneratedAccessor extends FieldAccessor {
+        private final GeneratedCodec codec;
+        private final int slot;
+        private final Class<?> type;
+
+        GeneratedAccessor(GeneratedCodec codec, int slot, Class<?> type){
+            this.codec = codec;
+            this.slot = slot;
+            this.type = type;
+        }
+
+        @Override
+        Object get(Object o){
+            if (type == int.class)
+                return codec.getInt(o, slot);
+            if (type == double.class)
+                return codec.getDouble(o, slot);
+            if (type == float.class)
+                return codec.getFloat(o, slot);
+            if (type == boolean.class)
+                return codec.getBoolean(o, slot);
+            if (type == char.class)
+                return codec.getChar(o, slot);
+            return codec.getObject(o, slot);
+        }
+
+        @Override
+        void set(Object o, Object value){
+            if (type == int.class)
+                codec.setInt(o, slot, (Integer) value);
+            else if (type == double.class)
+                codec.setDouble(o, slot, (Double) value);
+            else if (type == float.class)
+                codec.setFloat(o, slot, (Float) value);
+            else if (type == boolean.class)
+                codec.setBoolean(o, slot, (Boolean) value);
+            else if (type == char.class)
+                codec.setChar(o, slot, (Character) value);
+            else
+                codec.setObject(o, slot, value);
+        }
+
+        @Override
+        int getInt(Object o){
+            return codec.getInt(o, slot);
+        }
+
+        @Override
+        void setInt(Object o, int value){
+            codec.setInt(o, slot, value);
+        }
+
+        @Override
+        double getDouble(Object o){
+            return codec.getDouble(o, slot);
+        }
+
+        @Override
+        void setDouble(Object o, double value){
+            codec.setDouble(o, slot, value);
+        }
+
+        @Override
+        float getFloat(Object o){
+            return codec.getFloat(o, slot);
+        }
+
+        @Override
+        void setFloat(Object o, float value){
+            codec.setFloat(o, slot, value);
+        }
+
+        @Override
+        boolean getBoolean(Object o){
+            return codec.getBoolean(o, slot);
+        }
+
+        @Override
+        void setBoolean(Object o, boolean value){
+            codec.setBoolean(o, slot, value);
+        }
+
+        @Override
+        char getChar(Object o){
+            return codec.getChar(o, slot);
+        }
+
+        @Override
+        void setChar(Object o, char value){
+            codec.setChar(o, slot, value);
+        }
+    }
+
+    /**
+     * Generates the {@code GeneratedCodec} of a class. The codec is assembled as raw class file bytes, and defined as a hidden nestmate of the class so that it can access its private fields.
+     * <br><br>
+     * The generated {@code write()} is straight-line code: the field names are constants, and primitive fields are handed to the typed functions of the {@code Sink} directly.
+     * The slot-based getters and setters are a single switch over the fields of the matching type.
+     * @author MaximusHartanto
+     */
+    static final class CodecGenerator {
+        private static final String SINK = internalName(Sink.class);
+        private static final String UNSUPPORTED = "java/lang/IllegalArgumentException";
+        private static final String[][] SLOT_METHODS = {
+            //{type descriptor, getter, setter}
+            {"I", "getInt", "setInt"},
+            {"D", "getDouble", "setDouble"},
+            {"F", "getFloat", "setFloat"},
+            {"Z", "getBoolean", "setBoolean"},
+            {"C", "getChar", "setChar"},
+            {"Ljava/lang/Object;", "getObject", "setObject"}
+        };
+
+        private final Class<?> type;
+        private final FieldInfo[] fields;
+        private final String owner;
+        private final ClassBytes pool = new ClassBytes();
+        private final Map<String,Integer> poolIndex = new HashMap<>();
+        private int poolCount = 1;
+        /**
+         * Whether a method has outgrown the JVM's limit of 65535 bytes of code, in which case the class file cannot be loaded.
+         */
+        private boolean tooLarge;
+
+        private CodecGenerator(Class<?> type, FieldInfo[] fields){
+            this.type = type;
+            this.fields = fields;
+            this.owner = internalName(type);
+        }
+
+        /**
+         * Generates and instantiates the codec of a class.
+         * @param type the class to generate a codec for.
+         * @param fields the fields of the class, as listed by its {@code ClassLayout}.
+         * @return the codec, or null if one cannot be generated for this class (e.g. the class is closed to DSON.DSON, or a field has a type the codec cannot refer to).
+         * @throws IllegalStateException if the generated class file is invalid, or its codec cannot be instantiated, which means the generator itself is broken.
+         */
+        static GeneratedCodec generate(Class<?> type, FieldInfo[] fields){
+            if (type.isHidden() || type.isInterface() || type.isArray() || type.isPrimitive())
+                return null;
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                for (FieldInfo field : fields){
+                    if (!field.type.isPrimitive())
+                        lookup.accessClass(field.type);
+                }
+                byte[] bytes = new CodecGenerator(type, fields).toBytes();
+                if (bytes == null)
+                    return null;
+                MethodHandles.Lookup codecLookup = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+                return (GeneratedCodec) codecLookup.findConstructor(codecLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+            } catch (IllegalAccessException e){
+                //The class (or the type of one of its fields) is closed to DSON.DSON, so its fields are accessed through VarHandles or reflection instead
+                return null;
+            } catch (VerifyError | ClassFormatError e){
+                //The class file is built by hand, so a class file the JVM rejects can only mean the generator is broken
+                throw new IllegalStateException("Generated an invalid codec for " + type.getName(), e);
+            } catch (LinkageError e){
+                //E.g. the loader of the class cannot see DSON.DSON. This is not fatal, but it is slow, so it is not kept quiet either
+                System.getLogger(DSON.class.getName()).log(System.Logger.Level.WARNING, "Cannot generate a codec for " + type.getName() + ", falling back to VarHandles", e);
+                return null;
+            } catch (Throwable e){
+                throw new IllegalStateException("Cannot instantiate the generated codec for " + type.getName(), e);
+            }
+        }
+
+        private static String internalName(Class<?> c){
+            return c.getName().replace('.', '/');
+        }
+
+        /**
+         * Assembles the class file of the codec.
+         * @return the class file bytes, or null if the class is too wide to fit into the limits of a class file.
+         */
+        private byte[] toBytes(){
+            String codecName = owner + "$DSONCodec";
+            String superName = internalName(GeneratedCodec.class);
+            int thisClass = classRef(codecName);
+            int superClass = classRef(superName);
+
+            List<byte[]> methods = new ArrayList<>();
+            Code init = new Code();
+            init.u1(0x2a).u1(0xb7).u2(methodRef(superName, "<init>", "()V")).u1(0xb1);
+            methods.add(method("<init>", "()V", init, 1, 1, null));
+            methods.add(writeMethod());
+            for (String[] slotMethod : SLOT_METHODS){
+                methods.add(getterMethod(slotMethod[0], slotMethod[1]));
+                methods.add(setterMethod(slotMethod[0], slotMethod[2]));
+            }
+
+            ClassBytes out = new ClassBytes();
+            out.u4(0xCAFEBABE).u2(0).u2(61);
+            out.u2(poolCount).bytes(pool.toByteArray());
+            //public final super
+            out.u2(0x0031).u2(thisClass).u2(superClass);
+            out.u2(0).u2(0);
+            out.u2(methods.size());
+            for (byte[] method : methods)
+                out.bytes(method);
+            out.u2(0);
+            //Very wide classes outgrow the limits of a class file, which is not an error in the generator
+            if (tooLarge || poolCount > 0xFFFF)
+                return null;
+            return out.toByteArray();
+        }
+
+        /**
+         * Generates {@code write(Object, Sink)}, which writes every field as a {@code name:value} pair.
+         */
+        private byte[] writeMethod(){
+            Code code = new Code();
+            //T target = (T) o;
+            code.u1(0x2b).u1(0xc0).u2(classRef(owner)).u1(0x4e);
+            for (int i = 0; i < fields.length; i++){
+                FieldInfo field = fields[i];
+                //out.writeFieldPrefix(i);
+                code.u1(0x2c);
+                if (i < 128){
+                    code.u1(0x10).u1(i);
+                } else {
+                    code.u1(0x11).u2(i);
+                }
+                code.u1(0xb6).u2(methodRef(SINK, "writeFieldPrefix", "(I)V"));
+                code.u1(0x2c);
+                getField(code, field);
+                Class<?> fieldType = field.type;
+                if (fieldType == int.class){
+                    code.u1(0xb6).u2(methodRef(SINK, "writeInt", "(I)V"));
+                } else if (fieldType == double.class){
+                    code.u1(0xb6).u2(methodRef(SINK, "writeDouble", "(D)V"));
+                } else if (fieldType == float.class){
+                    code.u1(0xb6).u2(methodRef(SINK, "writeFloat", "(F)V"));
+                } else if (fieldType == boolean.class){
+                    code.u1(0xb6).u2(methodRef(SINK, "writeBoolean", "(Z)V"));
+                } else if (fieldType == char.class){
+                    code.u1(0xb6).u2(methodRef(SINK, "writeChar", "(C)V"));
+                } else {
+                    if (fieldType.isPrimitive()){
+                        //Other primitives are boxed, and written like any other object
+                        Class<?> wrapper = MethodType.methodType(fieldType).wrap().returnType();
+                        code.u1(0xb8).u2(methodRef(internalName(wrapper), "valueOf", "(" + fieldType.descriptorString() + ")" + wrapper.descriptorString()));
+                    }
+                    code.u1(0xb6).u2(methodRef(SINK, "writeValue", "(Ljava/lang/Object;)V"));
+                }
+            }
+            code.u1(0xb1);
+            return method("write", "(Ljava/lang/Object;L" + SINK + ";)V", code, 3, 4, null);
+        }
+
+        /**
+         * Emits a read of a field of the target, which is kept in local 3 by {@code write()}.
+         */
+        private void getField(Code code, FieldInfo field){
+            code.u1(0x2d).u1(0xb4).u2(fieldRef(field));
+        }
+
+        /**
+         * Checks if a field is read and written by the slot functions of the given type descriptor.
+         */
+        private static boolean hasSlotType(FieldInfo field, String descriptor){
+            return descriptor.startsWith("L") ? !field.type.isPrimitive() : field.type.descriptorString().equals(descriptor);
+        }
+
+        /**
+         * Generates {@code getX(Object o, int slot)}: a switch over the fields of the given type, each case returning the field's value.
+         */
+        private byte[] getterMethod(String descriptor, String name){
+            Code code = new Code();
+            code.u1(0x1c);
+            List<Integer> slots = new ArrayList<>();
+            for (int i = 0; i < fields.length; i++){
+                if (hasSlotType(fields[i], descriptor))
+                    slots.add(i);
+            }
+            int[] targets = code.lookupSwitch(slots);
+            for (int i = 0; i < slots.size(); i++){
+                code.label(targets, i);
+                code.u1(0x2b).u1(0xc0).u2(classRef(owner));
+                code.u1(0xb4).u2(fieldRef(fields[slots.get(i)]));
+                code.u1(returnOpcode(descriptor));
+            }
+            code.label(targets, slots.size());
+            throwUnsupported(code);
+            return method(name, "(Ljava/lang/Object;I)" + descriptor, code, 2, 3, targets);
+        }
+
+        /**
+         * Generates {@code setX(Object o, int slot, X value)}: a switch over the non-final fields of the given type, each case storing the value into the field.
+         */
+        private byte[] setterMethod(String descriptor, String name){
+            Code code = new Code();
+            code.u1(0x1c);
+            List<Integer> slots = new ArrayList<>();
+            for (int i = 0; i < fields.length; i++){
+                if (hasSlotType(fields[i], descriptor) && !Modifier.isFinal(fields[i].field.getModifiers()))
+                    slots.add(i);
+            }
+            int[] targets = code.lookupSwitch(slots);
+            for (int i = 0; i < slots.size(); i++){
+                FieldInfo field = fields[slots.get(i)];
+                code.label(targets, i);
+                code.u1(0x2b).u1(0xc0).u2(classRef(owner));
+                code.u1(loadOpcode(descriptor)).u1(3);
+                if (!field.type.isPrimitive())
+                    code.u1(0xc0).u2(classRef(field.type.isArray() ? field.type.descriptorString() : internalName(field.type)));
+                code.u1(0xb5).u2(fieldRef(field));
+                code.u1(0xb1);
+            }
+            code.label(targets, slots.size());
+            throwUnsupported(code);
+            int valueSize = descriptor.equals("D") ? 2 : 1;
+            return method(name, "(Ljava/lang/Object;I" + descriptor + ")V", code, 1 + valueSize, 3 + valueSize, targets);
+        }
+
+        private void throwUnsupported(Code code){
+            code.u1(0xbb).u2(classRef(UNSUPPORTED)).u1(0x59);
+            code.u1(0xb7).u2(methodRef(UNSUPPORTED, "<init>", "()V")).u1(0xbf);
+        }
+
+        private static int returnOpcode(String descriptor){
+            switch (descriptor){
+                case "D": return 0xaf;
+                case "F": return 0xae;
+                case "Ljava/lang/Object;": return 0xb0;
+                default: return 0xac;
+            }
+        }
+
+        private static int loadOpcode(String descriptor){
+            switch (descriptor){
+                case "D": return 0x18;
+                case "F": return 0x17;
+                case "Ljava/lang/Object;": return 0x19;
+                default: return 0x15;
+            }
+        }
+
+        /**
+         * Wraps a method body into a method_info structure.
+         * @param targets the branch targets of the body. Every target has the same frame as the start of the method, so they are all encoded as same_frames.
+         */
+        private byte[] method(String name, String descriptor, Code code, int maxStack, int maxLocals, int[] targets){
+            if (code.size() > 0xFFFF)
+                tooLarge = true;
+            ClassBytes body = new ClassBytes();
+            body.u2(maxStack).u2(maxLocals).u4(code.size()).bytes(code.toByteArray());
+            body.u2(0);
+            if (targets == null){
+                body.u2(0);
+            } else {
+                int[] offsets = Arrays.stream(targets).distinct().sorted().toArray();
+                ClassBytes frames = new ClassBytes();
+                frames.u2(offsets.length);
+                int previous = -1;
+                for (int offset : offsets){
+                    int delta = offset - previous - 1;
+                    if (delta < 64){
+                        frames.u1(delta);
+                    } else {
+                        frames.u1(251).u2(delta);
+                    }
+                    previous = offset;
+                }
+                byte[] frameBytes = frames.toByteArray();
+                body.u2(1).u2(utf8("StackMapTable")).u4(frameBytes.length).bytes(frameBytes);
+            }
+            byte[] bodyBytes = body.toByteArray();
+            ClassBytes out = new ClassBytes();
+            //public
+            out.u2(0x0001).u2(utf8(name)).u2(utf8(descriptor));
+            out.u2(1).u2(utf8("Code")).u4(bodyBytes.length).bytes(bodyBytes);
+            return out.toByteArray();
+        }
+
+        private int constant(String key, int tag, int... refs){
+            Integer index = poolIndex.get(key);
+            if (index != null)
+                return index;
+            pool.u1(tag);
+            for (int ref : refs)
+                pool.u2(ref);
+            poolIndex.put(key, poolCount);
+            return poolCount++;
+        }
+
+        private int utf8(String s){
+            Integer index = poolIndex.get("Utf8 " + s);
+            if (index != null)
+                return index;
+            //Class files use modified UTF-8
+            ClassBytes encoded = new ClassBytes();
+            for (int i = 0; i < s.length(); i++){
+                char c = s.charAt(i);
+                if (c != 0 && c < 0x80){
+                    encoded.u1(c);
+                } else if (c < 0x800){
+                    encoded.u1(0xc0 | (c >> 6)).u1(0x80 | (c & 0x3f));
+                } else {
+                    encoded.u1(0xe0 | (c >> 12)).u1(0x80 | ((c >> 6) & 0x3f)).u1(0x80 | (c & 0x3f));
+                }
+            }
+            byte[] bytes = encoded.toByteArray();
+            pool.u1(1).u2(bytes.length).bytes(bytes);
+            poolIndex.put("Utf8 " + s, poolCount);
+            return poolCount++;
+        }
+
+        private int classRef(String name){
+            return constant("Class " + name, 7, utf8(name));
+        }
+
+        private int nameAndType(String name, String descriptor){
+            return constant("NameAndType " + name + " " + descriptor, 12, utf8(name), utf8(descriptor));
+        }
+
+        private int fieldRef(FieldInfo field){
+            String name = field.field.getName();
+            String descriptor = field.type.descriptorString();
+            return constant("Fieldref " + owner + " " + name + " " + descriptor, 9, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        private int methodRef(String owner, String name, String descriptor){
+            return constant("Methodref " + owner + " " + name + " " + descriptor, 10, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        /**
+         * A growable big-endian byte buffer, used for every part of the class file.
+         */
+        private static class ClassBytes {
+            protected byte[] buf = new byte[64];
+            protected int size;
+
+            ClassBytes u1(int b){
+                if (size == buf.length)
+                    buf = Arrays.copyOf(buf, size * 2);
+                buf[size++] = (byte) b;
+                return this;
+            }
+
+            ClassBytes u2(int v){
+                return u1(v >> 8).u1(v);
+            }
+
+            ClassBytes u4(int v){
+                return u2(v >>> 16).u2(v);
+            }
+
+            ClassBytes bytes(byte[] b){
+                for (byte value : b)
+                    u1(value);
+                return this;
+            }
+
+            int size(){
+                return size;
+            }
+
+            byte[] toByteArray(){
+                return Arrays.copyOf(buf, size);
+            }
+        }
+
+        /**
+         * A method body under construction, with support for the one kind of branch the codecs need.
+         */
+        private static final class Code extends ClassBytes {
+            private int switchStart;
+            private int switchTable;
+
+            /**
+             * Emits a lookupswitch over the given slots, whose targets are filled in later through {@code label()}.
+             * @return the array of target offsets, one per slot plus the default target at the end.
+             */
+            int[] lookupSwitch(List<Integer> slots){
+                switchStart = size;
+                u1(0xab);
+                while (size % 4 != 0)
+                    u1(0);
+                switchTable = size;
+                u4(0).u4(slots.size());
+                for (int slot : slots)
+                    u4(slot).u4(0);
+                return new int[slots.size() + 1];
+            }
+
+            /**
+             * Marks the current position as the target of a switch case.
+             * @param targets the targets returned by {@code lookupSwitch()}.
+             * @param index the case index, or the number of cases for the default target.
+             */
+            void label(int[] targets, int index){
+                targets[index] = size;
+                int relative = size - switchStart;
+                int at = (index == targets.length - 1) ? switchTable : switchTable + 8 + index * 8 + 4;
+                buf[at] = (byte) (relative >>> 24);
+                buf[at + 1] = (byte) (relative >>> 16);
+                buf[at + 2] = (byte) (relative >>> 8);
+                buf[at + 3] = (byte) relative;
+            }
+        }
+    }
+
+    /**
+     * A pull parser, which reads a JSON document one token at a time instead of binding it to an object. DSONReaders are constructed using DSON.DSON's {@code reader()} functions.
+     * <br><br>
+     * This is useful for documents which are too large to be held as objects, or when only a few fields of a document are needed: everything else can be passed over with {@code skipValue()}.
+     * Commas and colons are consumed automatically, so a typical loop looks like:
+     * <br><br>
+     * {@code reader.beginObject(); while (reader.hasNext()) { String name = reader.nextName(); ... } reader.endObject();}
+     * <br><br>
+     * The reader runs over the same cursors as {@code DSONObject}, so the same syntax is accepted. If the document is read from a stream, I/O failures are thrown as {@code UncheckedIOException}s.
+     * @author MaximusHartanto
+     */
+    public static class DSONReader implements Closeable {
+        /**
+         * The kinds of tokens of a JSON document, as returned by {@code nextToken()}.
+         */
+        public enum Token {
+            BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, CHAR, NUMBER, BOOLEAN, END_DOCUMENT
+        }
+
+        /**
+         * What the reader expects next, for every object or array it is currently within.
+         * A "dangling" name is one which has been read, but whose value has not been.
+         */
+        private static final int EMPTY_DOCUMENT = 0, NONEMPTY_DOCUMENT = 1, EMPTY_OBJECT = 2, NONEMPTY_OBJECT = 3, DANGLING_NAME = 4, EMPTY_ARRAY = 5, NONEMPTY_ARRAY = 6;
+
+        private final Cursor cursor;
+        private final Closeable resource;
+        private int[] scopes = new int[16];
+        private int depth = 1;
+        /**
+         * The next token, if it has been peeked at already. Any separator in front of it has been consumed by then.
+         */
+        private Token peeked;
+
+        /**
+         * Constructs a reader.
+         * @param cursor the cursor placed at the start of the document.
+         * @param resource the resource to be closed along with the reader, or null.
+         */
+        DSONReader(Cursor cursor, Closeable resource){
+            this.cursor = cursor;
+            this.resource = resource;
+            scopes[0] = EMPTY_DOCUMENT;
+        }
+
+        /**
+         * Peeks at the next token, without consuming it.
+         * @return the kind of the next token, or {@code END_DOCUMENT} once the whole document has been read.
+         * @throws DSONException if the document is malformed at this point.
+         */
+        public Token nextToken() throws DSONException{
+            if (peeked != null)
+                return peeked;
+            int scope = scopes[depth - 1];
+            char lookahead = cursor.peek();
+            switch (scope){
+                case EMPTY_DOCUMENT -> scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                case NONEMPTY_DOCUMENT -> {
+                    //Documents may hold several values one after the other, e.g. one per line
+                    if (lookahead == Cursor.EOF)
+                        return peeked = Token.END_DOCUMENT;
+                }
+                case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                    if (lookahead == '}')
+                        return peeked = Token.END_OBJECT;
+                    if (scope == NONEMPTY_OBJECT)
+                        cursor.expect(',');
+                    scopes[depth - 1] = DANGLING_NAME;
+                    return peeked = Token.NAME;
+                }
+                case DANGLING_NAME -> {
+                    cursor.expect(':');
+                    scopes[depth - 1] = NONEMPTY_OBJECT;
+                }
+                case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+                    if (lookahead == ']')
+                        return peeked = Token.END_ARRAY;
+                    if (scope == NONEMPTY_ARRAY)
+                        cursor.expect(',');
+                    scopes[depth - 1] = NONEMPTY_ARRAY;
+                }
+            }
+            return peeked = valueToken(cursor.peek());
+        }
+
+        /**
+         * Deduces the kind of a value from its first character.
+         * @param lookahead the first character of the value.
+         * @return the kind of the value.
+         * @throws DSONException if no value can start with this character.
+         */
+        private static Token valueToken(char lookahead) throws DSONException{
+            if (lookahead == '{')
+                return Token.BEGIN_OBJECT;
+            if (lookahead == '[')
+                return Token.BEGIN_ARRAY;
+            if (lookahead == '\"')
+                return Token.STRING;
+            if (lookahead == '\'')
+                return Token.CHAR;
+            if (lookahead == 't' || lookahead == 'f')
+                return Token.BOOLEAN;
+            if (lookahead == '-' || lookahead == '.' || (lookahead >= '0' && lookahead <= '9'))
+                return Token.NUMBER;
+            throw new DSONException();
+        }
+
+        /**
+         * Consumes the next token, which must be of a given kind.
+         * @param token the expected kind of the next token.
+         * @throws DSONException if the next token is of another kind.
+         */
+        private void consume(Token token) throws DSONException{
+            if (nextToken() != token)
+                throw new DSONException();
+            peeked = null;
+        }
+
+        /**
+         * Checks if the current object or array has another element.
+         * @return a boolean - true if there is another name (in an object) or value (in an array).
+         * @throws DSONException if the document is malformed at this point.
+         */
+        public boolean hasNext() throws DSONException{
+            Token token = nextToken();
+            return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+        }
+
+        /**
+         * Consumes the opening brace of an object.
+         * @throws DSONException if the next token is not the start of an object.
+         */
+        public void beginObject() throws DSONException{
+            consume(Token.BEGIN_OBJECT);
+            cursor.expect('{');
+            push(EMPTY_OBJECT);
+        }
+
+        /**
+         * Consumes the closing brace of an object.
+         * @throws DSONException if the next token is not the end of an object.
+         */
+        public void endObject() throws DSONException{
+            consume(Token.END_OBJECT);
+            cursor.expect('}');
+            depth--;
+        }
+
+        /**
+         * Consumes the opening bracket of an array.
+         * @throws DSONException if the next token is not the start of an array.
+         */
+        public void beginArray() throws DSONException{
+            consume(Token.BEGIN_ARRAY);
+            cursor.expect('[');
+            push(EMPTY_ARRAY);
+        }
+
+        /**
+         * Consumes the closing bracket of an array.
+         * @throws DSONException if the next token is not the end of an array.
+         */
+        public void endArray() throws DSONException{
+            consume(Token.END_ARRAY);
+            cursor.expect(']');
+            depth--;
+        }
+
+        private void push(int scope){
+            if (depth == scopes.length)
+                scopes = Arrays.copyOf(scopes, depth * 2);
+            scopes[depth++] = scope;
+        }
+
+        /**
+         * Reads the name of the next field of an object.
+         * @return the name of the field.
+         * @throws DSONException if the next token is not a name.
+         */
+        public String nextName() throws DSONException{
+            consume(Token.NAME);
+            return cursor.readName();
+        }
+
+        /**
+         * Reads a String value.
+         * @return the String value.
+         * @throws DSONException if the next token is not a String.
+         */
+        public String nextString() throws DSONException{
+            consume(Token.STRING);
+            return cursor.readString();
+        }
+
+        /**
+         * Reads a character value.
+         * @return the character value.
+         * @throws DSONException if the next token is not a character.
+         */
+        public char nextChar() throws DSONException{
+            consume(Token.CHAR);
+            return cursor.readChar();
+        }
+
+        /**
+         * Reads a boolean value.
+         * @return the boolean value.
+         * @throws DSONException if the next token is not a boolean.
+         */
+        public boolean nextBoolean() throws DSONException{
+            consume(Token.BOOLEAN);
+            return cursor.readBoolean();
+        }
+
+        /**
+         * Reads an int value.
+         * @return the int value.
+         * @throws DSONException if the next token is not a number, or does not fit into an int.
+         */
+        public int nextInt() throws DSONException{
+            consume(Token.NUMBER);
+            return cursor.readInt();
+        }
+
+        /**
+         * Reads a long value.
+         * @return the long value.
+         * @throws DSONException if the next token is not a number, or does not fit into a long.
+         */
+        public long nextLong() throws DSONException{
+            consume(Token.NUMBER);
+            return cursor.readLong();
+        }
+
+        /**
+         * Reads a double value.
+         * @return the double value.
+         * @throws DSONException if the next token is not a number.
+         */
+        public double nextDouble() throws DSONException{
+            consume(Token.NUMBER);
+            return cursor.readDouble();
+        }
+
+        /**
+         * Reads a float value.
+         * @return the float value.
+         * @throws DSONException if the next token is not a number.
+         */
+        public float nextFloat() throws DSONException{
+            consume(Token.NUMBER);
+            return cursor.readFloat();
+        }
+
+        /**
+         * Skips the next value, including everything nested within it. If the next token is a name, the name and its value are skipped.
+         * <br><br>
+         * Nothing is decoded while skipping, so no Strings are created for the skipped part of the document.
+         * @throws DSONException if the document is malformed within the skipped value.
+         */
+        public void skipValue() throws DSONException{
+            if (nextToken() == Token.NAME){
+                consume(Token.NAME);
+                cursor.skipName();
+            }
+            Token token = nextToken();
+            if (token == Token.END_OBJECT || token == Token.END_ARRAY || token == Token.END_DOCUMENT)
+                throw new DSONException();
+            consume(token);
+            cursor.skipValue();
+        }
+
+        /**
+         * Closes the resource the document is read from, if the reader was constructed from a file.
+         * @throws IOException if the resource cannot be closed.
+         */
+        @Override
+        public void close() throws IOException{
+            if (resource != null)
+                resource.close();
+        }
+    }
+
+    /**
+     * A node of a lazily parsed JSON document, constructed using DSON.DSON's {@code tree()} functions. A node is either an object, an array, or a single value.
+     * <br><br>
+     * A node only records where its value starts and ends within the document. The children of an object or array are located the first time one of them is asked for,
+     * by a scan which steps over each child without decoding it. They are then cached, as are Strings once they have been decoded.
+     * This means that reading a few fields out of a large document only decodes those fields.
+     * <br><br>
+     * All nodes of a document share the document's cursor, so a tree must not be used by several threads at once.
+     * @author MaximusHartanto
+     */
+    public static class DSONNode {
+        /**
+         * The kinds of values a node can hold.
+         */
+        public enum Type {
+            OBJECT, ARRAY, STRING, CHAR, NUMBER, BOOLEAN
+        }
+
+        private final Cursor cursor;
+        private final Type type;
+        private final int start;
+        /**
+         * The index right after the end of the value, or -1 if it has not been scanned yet.
+         */
+        private int end;
+        private Map<String, DSONNode> fields;
+        private List<DSONNode> elements;
+        private String string;
+
+        /**
+         * Constructs a node.
+         * @param cursor the cursor over the whole document.
+         * @param start the index of the first character of the value.
+         * @param end the index right after the last character of the value, or -1 if it is not known yet.
+         * @throws DSONException if no value starts at {@code start}.
+         */
+        private DSONNode(Cursor cursor, int start, int end) throws DSONException{
+            this.cursor = cursor;
+            this.start = start;
+            this.end = end;
+            cursor.pos = start;
+            char c = cursor.peek();
+            if (c == '{'){
+                type = Type.OBJECT;
+            } else if (c == '['){
+                type = Type.ARRAY;
+            } else if (c == '\"'){
+                type = Type.STRING;
+            } else if (c == '\''){
+                type = Type.CHAR;
+            } else if (c == 't' || c == 'f'){
+                type = Type.BOOLEAN;
+            } else if (c == '-' || c == '.' || (c >= '0' && c <= '9')){
+                type = Type.NUMBER;
+            } else {
+                throw new DSONException();
+            }
+        }
+
+        /**
+         * Constructs the root node of a document.
+         * @param cursor the cursor placed at the start of the document.
+         * @return the root node.
+         * @throws DSONException if the document does not start with a value.
+         */
+        static DSONNode root(Cursor cursor) throws DSONException{
+            cursor.peek();
+            return new DSONNode(cursor, cursor.pos, -1);
+        }
+
+        /**
+         * Gets the kind of value this node holds.
+         * @return the type of this node.
+         */
+        public Type type(){
+            return type;
+        }
+
+        /**
+         * Places the cursor at the start of this node's value.
+         * @return the cursor.
+         */
+        private Cursor seek(){
+            cursor.pos = start;
+            return cursor;
+        }
+
+        /**
+         * Locates the fields of this object, if that has not been done yet.
+         * @throws DSONException if this node is not an object, or the object is malformed.
+         */
+        private void scanFields() throws DSONException{
+            if (fields != null)
+                return;
+            if (type != Type.OBJECT)
+                throw new DSONException();
+            Map<String, DSONNode> result = new LinkedHashMap<>();
+            Cursor cursor = seek();
+            cursor.expect('{');
+            while (cursor.peek() != '}'){
+                String name = cursor.readName();
+                cursor.expect(':');
+                cursor.peek();
+                int childStart = cursor.pos;
+                cursor.skipValue();
+                int childEnd = cursor.pos;
+                //Constructing the node moves the cursor, so it is placed back after the child
+                result.put(name, new DSONNode(cursor, childStart, childEnd));
+                cursor.pos = childEnd;
+                if (cursor.peek() != '}')
+                    cursor.expect(',');
+            }
+            cursor.expect('}');
+            end = cursor.pos;
+            fields = result;
+        }
+
+        /**
+         * Locates the elements of this array, if that has not been done yet.
+         * @throws DSONException if this node is not an array, or the array is malformed.
+         */
+        private void scanElements() throws DSONException{
+            if (elements != null)
+                return;
+            if (type != Type.ARRAY)
+                throw new DSONException();
+            List<DSONNode> result = new ArrayList<>();
+            Cursor cursor = seek();
+            cursor.expect('[');
+            while (cursor.peek() != ']'){
+                int childStart = cursor.pos;
+                cursor.skipValue();
+                int childEnd = cursor.pos;
+                result.add(new DSONNode(cursor, childStart, childEnd));
+                cursor.pos = childEnd;
+                if (cursor.peek() != ']')
+                    cursor.expect(',');
+            }
+            cursor.expect(']');
+            end = cursor.pos;
+            elements = result;
+        }
+
+        /**
+         * Gets a field of this object.
+         * @param name the name of the field.
+         * @return the node of the field's value, or null if the object has no such field.
+         * @throws DSONException if this node is not an object, or the object is malformed.
+         */
+        public DSONNode get(String name) throws DSONException{
+            scanFields();
+            return fields.get(name);
+        }
+
+        /**
+         * Gets an element of this array.
+         * @param index the index of the element.
+         * @return the node of the element.
+         * @throws DSONException if this node is not an array, or the array is malformed.
+         * @throws IndexOutOfBoundsException if there is no element at this index.
+         */
+        public DSONNode get(int index) throws DSONException{
+            scanElements();
+            return elements.get(index);
+        }
+
+        /**
+         * Gets the names of the fields of this object, in the order they appear in.
+         * @return an unmodifiable view of the names.
+         * @throws DSONException if this node is not an object, or the object is malformed.
+         */
+        public Set<String> names() throws DSONException{
+            scanFields();
+            return Collections.unmodifiableSet(fields.keySet());
+        }
+
+        /**
+         * Gets the number of fields of this object, or of elements of this array.
+         * @return the number of children of this node.
+         * @throws DSONException if this node is neither an object nor an array.
+         */
+        public int size() throws DSONException{
+            if (type == Type.OBJECT){
+                scanFields();
+                return fields.size();
+            }
+            scanElements();
+            return elements.size();
+        }
+
+        /**
+         * Decodes the value of this node as a String. The String is decoded once, and cached.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a String.
+         */
+        public String asString() throws DSONException{
+            if (type != Type.STRING)
+                throw new DSONException();
+            if (string == null)
+                string = seek().readString();
+            return string;
+        }
+
+        /**
+         * Decodes the value of this node as a character.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a character.
+         */
+        public char asChar() throws DSONException{
+            if (type != Type.CHAR)
+                throw new DSONException();
+            return seek().readChar();
+        }
+
+        /**
+         * Decodes the value of this node as a boolean.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a boolean.
+         */
+        public boolean asBoolean() throws DSONException{
+            if (type != Type.BOOLEAN)
+                throw new DSONException();
+            return seek().readBoolean();
+        }
+
+        /**
+         * Decodes the value of this node as an int.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a number, the number is not an integer (e.g. {@code 1.5} or {@code 1e2}), or it does not fit into an int.
+         */
+        public int asInt() throws DSONException{
+            if (type != Type.NUMBER)
+                throw new DSONException();
+            int value = seek().readInt();
+            expectIntegerEnd();
+            return value;
+        }
+
+        /**
+         * Decodes the value of this node as a long.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a number, the number is not an integer (e.g. {@code 1.5} or {@code 1e2}), or it does not fit into a long.
+         */
+        public long asLong() throws DSONException{
+            if (type != Type.NUMBER)
+                throw new DSONException();
+            long value = seek().readLong();
+            expectIntegerEnd();
+            return value;
+        }
+
+        /**
+         * Checks that an integer which has just been read was the whole number, and not e.g. the {@code 1} out of {@code 1.5} or {@code 1e2}.
+         * @throws DSONException if the number goes on after the integer.
+         */
+        private void expectIntegerEnd() throws DSONException{
+            if (!cursor.available())
+                return;
+            char c = cursor.charAt(cursor.pos);
+            if (c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9'))
+                throw new DSONException();
+        }
+
+        /**
+         * Decodes the value of this node as a double.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a number.
+         */
+        public double asDouble() throws DSONException{
+            if (type != Type.NUMBER)
+                throw new DSONException();
+            return seek().readDouble();
+        }
+
+        /**
+         * Decodes the value of this node as a float.
+         * @return the value of this node.
+         * @throws DSONException if this node is not a number.
+         */
+        public float asFloat() throws DSONException{
+            if (type != Type.NUMBER)
+                throw new DSONException();
+            return seek().readFloat();
+        }
+
+        /**
+         * Gets the JSON text of this node, exactly as it appears in the document.
+         * @return the JSON text of this node's value.
+         */
+        @Override
+        public String toString(){
+            try {
+                if (end < 0){
+                    seek().skipValue();
+                    end = cursor.pos;
                 }
-                result.append(cur);
             }
-            return result.toString();
+            catch(DSONException e){
+                throw new IllegalStateException(e);
+            }
+            return cursor.substring(start, end);
+        }
+    }
+
+    /**
+     * Splits the lines of a JSON Lines file between the threads of a parallel Stream. The file is held as line-aligned segments, and each spliterator covers a range of them:
+     * whole segments are handed over while there are more than one, and a single segment is split at the first line break after its middle.
+     * A line belongs to the spliterator whose range it starts in.
+     * @author MaximusHartanto
+     */
+    static final class LineSpliterator<T> implements Spliterator<T> {
+        static final int SEGMENT_SIZE = 1 << 30;
+
+        private final ByteBuffer[] segments;
+        private final Class<T> lineClass;
+        private final boolean ordered;
+        /**
+         * The range of this spliterator: from index {@code from} of segment {@code segment} up to (but excluding) index {@code to} of segment {@code lastSegment}.
+         */
+        private int segment, from, lastSegment, to;
+        /**
+         * The parser of the current segment, created on first use.
+         */
+        private Parser parser;
+
+        LineSpliterator(ByteBuffer[] segments, Class<T> lineClass, boolean ordered){
+            this(segments, lineClass, ordered, 0, 0, segments.length - 1, segments.length == 0 ? 0 : segments[segments.length - 1].limit());
+        }
+
+        private LineSpliterator(ByteBuffer[] segments, Class<T> lineClass, boolean ordered, int segment, int from, int lastSegment, int to){
+            this.segments = segments;
+            this.lineClass = lineClass;
+            this.ordered = ordered;
+            this.segment = segment;
+            this.from = from;
+            this.lastSegment = lastSegment;
+            this.to = to;
+        }
+
+        /**
+         * Maps a file as segments which each end at a line break (except for the last one), so no line is split between two of them.
+         * @param file the channel of the file.
+         * @param segmentSize the largest size of a segment.
+         * @return the segments, in order.
+         * @throws IOException if the file cannot be mapped.
+         * @throws DSONException if a line is longer than a segment.
+         */
+        static ByteBuffer[] map(FileChannel file, int segmentSize) throws IOException, DSONException{
+            List<ByteBuffer> segments = new ArrayList<>();
+            long size = file.size();
+            long start = 0;
+            while (start < size){
+                int length = (int) Math.min(size - start, segmentSize);
+                ByteBuffer segment = file.map(FileChannel.MapMode.READ_ONLY, start, length);
+                if (start + length < size){
+                    //Cuts the segment off after its last line break, and maps the rest again as part of the next one
+                    int end = length;
+                    while (end > 0 && segment.get(end - 1) != '\n')
+                        end--;
+                    if (end == 0)
+                        throw new DSONException();
+                    segment = segment.slice(0, end);
+                    length = end;
+                }
+                segments.add(segment);
+                start += length;
+            }
+            return segments.toArray(new ByteBuffer[0]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action){
+            while (segment <= lastSegment){
+                if (parser == null)
+                    parser = new Parser(new ByteCursor(segments[segment].duplicate()), false);
+                Cursor cursor = parser.cursor;
+                cursor.pos = from;
+                //Blank lines are skipped along with the whitespace before the value
+                cursor.peek();
+                int end = (segment == lastSegment) ? to : cursor.limit;
+                if (cursor.pos >= end){
+                    if (segment == lastSegment){
+                        from = to;
+                        return false;
+                    }
+                    segment++;
+                    from = 0;
+                    parser = null;
+                    continue;
+                }
+                T value;
+                try {
+                    value = (T) parser.parseObject(lineClass, null, null);
+                    //Only whitespace may follow the value on its line
+                    while (cursor.pos < cursor.limit){
+                        char c = cursor.charAt(cursor.pos++);
+                        if (c == '\n')
+                            break;
+                        if (c != ' ' && c != '\r' && c != '\t')
+                            throw new DSONException();
+                    }
+                }
+                catch(DSONException e){
+                    throw new IllegalStateException(e);
+                }
+                from = cursor.pos;
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit(){
+            if (segment < lastSegment){
+                //Hands over the first half of the segments
+                int middle = (segment + lastSegment + 1) >>> 1;
+                Spliterator<T> prefix = new LineSpliterator<>(segments, lineClass, ordered, segment, from, middle - 1, segments[middle - 1].limit());
+                segment = middle;
+                from = 0;
+                parser = null;
+                return prefix;
+            }
+            if (segment > lastSegment || to - from < 2)
+                return null;
+            ByteBuffer buf = segments[segment];
+            int split = (from + to) >>> 1;
+            //The split is moved forward to the start of the next line
+            while (split < to && buf.get(split - 1) != '\n')
+                split++;
+            if (split <= from || split >= to)
+                return null;
+            Spliterator<T> prefix = new LineSpliterator<>(segments, lineClass, ordered, segment, from, segment, split);
+            from = split;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize(){
+            if (segment > lastSegment)
+                return 0;
+            //The number of bytes left, as the number of lines is not known up front
+            long size = -from;
+            for (int i = segment; i < lastSegment; i++)
+                size += segments[i].limit();
+            return size + to;
+        }
+
+        @Override
+        public int characteristics(){
+            return (ordered ? ORDERED : 0) | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Splits the elements of a top-level JSON array between the threads of a parallel Stream. The start of each element is found up front from the structural index,
+     * so a split just hands over half of the remaining range of elements, and never has to look at the document itself.
+     * @author MaximusHartanto
+     */
+    static final class ElementSpliterator<T> implements Spliterator<T> {
+        private final ByteBuffer json;
+        private final StructuralIndex index;
+        private final int[] starts;
+        private final Class<T> elementClass;
+        /**
+         * The range of elements (within {@code starts}) which are left to this spliterator.
+         */
+        private int from, to;
+        /**
+         * The parser of this spliterator, created on first use, as each split needs a cursor of its own.
+         */
+        private Parser parser;
+
+        private ElementSpliterator(ByteBuffer json, StructuralIndex index, int[] starts, Class<T> elementClass, int from, int to){
+            this.json = json;
+            this.index = index;
+            this.starts = starts;
+            this.elementClass = elementClass;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Pre-scans a document holding a single array, and constructs a Stream over its elements.
+         * @param json the buffer holding the UTF-8 bytes of the document, from index 0 up to its limit.
+         * @param elementClass the class of the elements.
+         * @return a sequential Stream of the elements.
+         * @throws DSONException if the document does not hold a single array, or its Strings, brackets and braces do not match up.
+         */
+        static <T> Stream<T> stream(ByteBuffer json, Class<T> elementClass) throws DSONException{
+            Objects.requireNonNull(elementClass);
+            StructuralIndex index = StructuralIndex.build(json);
+            int[] positions = index.positions;
+            ByteCursor cursor = new ByteCursor(json.duplicate());
+            if (cursor.peek() != '[' || index.count == 0 || positions[0] != cursor.pos)
+                throw new DSONException();
+            int close = index.matches[0];
+            cursor.pos = positions[close] + 1;
+            if (!cursor.endOfInput())
+                throw new DSONException();
+            cursor.pos = positions[0] + 1;
+            if (cursor.peek() == ']')
+                return StreamSupport.stream(new ElementSpliterator<>(json, index, new int[0], elementClass, 0, 0), false);
+            int[] starts = new int[16];
+            int size = 0;
+            starts[size++] = positions[0] + 1;
+            //Nested arrays, objects and Strings are stepped over, so only the commas between the elements themselves are left
+            int k = 1;
+            while (k < close){
+                byte b = json.get(positions[k]);
+                if (b == '{' || b == '['){
+                    k = index.matches[k] + 1;
+                } else if (b == '\"'){
+                    k += 2;
+                } else if (b == ','){
+                    if (size == starts.length)
+                        starts = Arrays.copyOf(starts, size * 2);
+                    starts[size++] = positions[k] + 1;
+                    k++;
+                } else {
+                    throw new DSONException();
+                }
+            }
+            return StreamSupport.stream(new ElementSpliterator<>(json, index, starts, elementClass, 0, size), false);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action){
+            if (from >= to)
+                return false;
+            if (parser == null)
+                parser = new Parser(new IndexedCursor(json.duplicate(), index), false);
+            Cursor cursor = parser.cursor;
+            cursor.pos = starts[from++];
+            T element;
+            try {
+                element = (T) parser.parseObject(elementClass, null, null);
+                //The element must be followed by the separator or the end of the array, and nothing else
+                char c = cursor.peek();
+                if (c != ',' && c != ']')
+                    throw new DSONException();
+            }
+            catch(DSONException e){
+                throw new IllegalStateException(e);
+            }
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit(){
+            int middle = (from + to) >>> 1;
+            if (middle <= from)
+                return null;
+            Spliterator<T> prefix = new ElementSpliterator<>(json, index, starts, elementClass, from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize(){
+            return to - from;
+        }
+
+        @Override
+        public int characteristics(){
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Decodes JSON into values of a class, and encodes them back, e.g. {@code DSON.codec(Apple.class).decode(json)}. Values are decoded the same way as fields of their type would be,
+     * so a codec can be made for plain classes as well as for arrays, Strings and boxed primitives.
+     * <br><br>
+     * A codec is immutable, and is built once per class (see {@code DSON.codec()}), so it can be shared by any number of threads at the same time.
+     * The state of each call lives in a {@code Parser} or {@code Sink} of its own, which is thrown away once the call returns.
+     * @author MaximusHartanto
+     */
+    public static final class DSONCodec<T> {
+        private static final ClassValue<DSONCodec<?>> CODECS = new ClassValue<>() {
+            @Override
+            protected DSONCodec<?> computeValue(Class<?> type){
+                return new DSONCodec<>(type, false);
+            }
+        };
+
+        private final Class<T> type;
+        private final boolean reuse;
+
+        private DSONCodec(Class<T> type, boolean reuse){
+            this.type = type;
+            this.reuse = reuse;
         }
 
         /**
-         * Deserializes a JSON string into this DSON.DSON object.
-         * This populates the object's fields with data retrieved from JSON.
-         * @implNote Do note that all object field names will be lowercased by default, the lowercase name will be used to search for fields within the JSON.
-         * For example, if you have a field called theNumberThree, the entry with the name "thenumberthree: ..." will be associated with that field.
-         * @param JSON the JSON string to be deserialized.
-         * The string will be automatically formatted and no removal of whitespace/newlines is necessary.
-         * @throws DSONException an error has occured during deserialization.
+         * Gets the codec of a class, building it on first use.
+         * @param type the class of the values.
+         * @return the cached codec of the class.
          */
-        public void parse(String JSON) throws DSONException{
-            setParser(JSON);
-            parseJSON();
+        @SuppressWarnings("unchecked")
+        static <T> DSONCodec<T> of(Class<T> type){
+            return (DSONCodec<T>) CODECS.get(type);
         }
 
         /**
-         * Prepares the parser for parsing the query. This includes removing whitespace and setting the parser to scan one character at a time.
-         * @param query the string to be parsed and prepared for the parser.
+         * Gets the class of the values this codec decodes and encodes.
+         * @return the class of the values.
          */
-        private void setParser(String query){
-            String fixedQuery = fixFormat(query);
-            queryParser = new Scanner(fixedQuery);
-            //This lets us extract characters one at a time from the Scanner
-            //Not very efficient however, since charAt(0) is necessary to get the character
-            //In the future, a bufferedInputStream can be used instead for more efficiency
-            queryParser.useDelimiter("");
+        public Class<T> type(){
+            return type;
         }
 
         /**
-         * Overrides the query parser by setting it to another Scanner completely. For internal use only.
-         * @param parser the Scanner to be used as the queryParser.
+         * Gets a codec which does, or does not, reuse the instances a target already holds when decoding into it. See {@code DSONObject.setReuse()}.
+         * @param reuse whether existing instances are reused.
+         * @return a codec of the same class.
          */
-        private void overrideParser(Scanner parser){
-            this.queryParser = parser;
+        public DSONCodec<T> withReuse(boolean reuse){
+            return (reuse == this.reuse) ? this : new DSONCodec<>(type, reuse);
         }
 
         /**
-         * Peeks one character ahead to see the next character in the Scanner (a bit hacky). If the scanner is currently reading "hello world", this will return 'h'.
-         * @return the lookahead character in the Scanner.
+         * Decodes a JSON string into a new value.
+         * @param json the JSON string.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization.
          */
-        private char peekOne(){
-            //Has to be called every time since the parser has to re-match.
-            queryParser.hasNext(".*");
-            return queryParser.match().group(0).charAt(0);
+        public T decode(String json) throws DSONException{
+            return read(null, new CharCursor(json));
         }
 
         /**
-         * Checks if the parser has reached the end of the JSON string, and if there are no more characters to parse.
-         * @return a boolean, {@code true} if there are no more characters to be parsed.
+         * Decodes a UTF-8 encoded JSON document into a new value. The document is parsed straight from its bytes.
+         * @param json the UTF-8 bytes of the document.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization.
          */
-        private boolean endOfLine(){
-            return !queryParser.hasNext();
+        public T decode(byte[] json) throws DSONException{
+            return read(null, new ByteCursor(ByteBuffer.wrap(json)));
         }
 
         /**
-         * Expects a character to be the next character in the JSON string. For example, if {@code expect(':')} is ran, the next character MUST be a colon or an exception will be thrown.
-         * <br><br>
-         * Do note that during the process, the character will be consumed at the same time. This is because consuming the character is inevitable in any case.
-         * <br><br>
-         * Do also note that this function checks if the parser has no more tokens to read.
-         * @param c the character to be expected to be the next token.
-         * @throws DSONException this means that the next character does not match with the intended one.
+         * Decodes a JSON document read from a {@code Reader} into a new value. The document is parsed as it is read, and the Reader is not closed.
+         * @param in the Reader the JSON document is read from.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization, including failures to read from {@code in}.
          */
-        private void expect(char c) throws DSONException{
-            if (endOfLine() || queryParser.next().charAt(0) != c)
-                throw new DSONException();
+        public T decode(Reader in) throws DSONException{
+            return read(null, new CharCursor(Objects.requireNonNull(in)));
         }
 
         /**
-         * If the next character is equal to c, this function will consume the next character. Otherwise, nothing happens.
-         * <br><br>
-         * This function is helpful when some syntax can be in two forms. For example, fields can either have quote marks, e.g. {@code "key" : 35} or not, e.g. {@code key : 35}.
-         * @param c the optional character
+         * Decodes a UTF-8 encoded JSON document read from an {@code InputStream} into a new value. The document is parsed as it is read, and the stream is not closed.
+         * @param in the stream the JSON document is read from.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization, including failures to read from {@code in}.
          */
-        private void option(char c){
-            if (peekOne() == c)
-                queryParser.next();
+        public T decode(InputStream in) throws DSONException{
+            return decode(new InputStreamReader(Objects.requireNonNull(in), StandardCharsets.UTF_8));
         }
 
         /**
-         * Advances one token ahead in the parser. Does not return anything.
+         * Decodes a UTF-8 encoded JSON file into a new value. The file is memory-mapped and parsed straight from its bytes.
+         * @param file the path of the JSON file.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization, including failures to read the file.
          */
-        private void advanceOne(){
-            queryParser.next();
+        public T decode(Path file) throws DSONException{
+            return read(null, file);
         }
 
         /**
-         * Advances one token ahead and returns the token consumed by this function.
-         * @return the character consumed by this function
+         * Decodes a JSON string into an existing value. Objects have their fields updated in place, the same way as {@code DSONObject.parse()} does.
+         * @param target the value to be decoded into.
+         * @param json the JSON string.
+         * @return the decoded value, which is the target itself unless it is an array that has been replaced.
+         * @throws DSONException an error has occured during deserialization.
          */
-        private char nextChar(){
-            return queryParser.next().charAt(0);
+        public T decodeInto(T target, String json) throws DSONException{
+            return read(Objects.requireNonNull(target), new CharCursor(json));
         }
 
         /**
-         * Returns the next character parsed as a {@code String} rather than a character. This is helpful for some cases to remove
-         * a charAt(0).
-         * @return the next character as a String
+         * Decodes a UTF-8 encoded JSON document into an existing value, see {@code decodeInto(Object, String)}.
+         * @param target the value to be decoded into.
+         * @param json the UTF-8 bytes of the document.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization.
          */
-        private String nextCharAsString(){
-            return queryParser.next();
+        public T decodeInto(T target, byte[] json) throws DSONException{
+            return read(Objects.requireNonNull(target), new ByteCursor(ByteBuffer.wrap(json)));
         }
 
         /**
-         * Parses an integer from the current point of the parser. This function reads digits until a non-digit character is encountered.
-         * @return an integer value based on the value parsed.
+         * Decodes a JSON document read from a {@code Reader} into an existing value, see {@code decodeInto(Object, String)}. The Reader is not closed.
+         * @param target the value to be decoded into.
+         * @param in the Reader the JSON document is read from.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization, including failures to read from {@code in}.
          */
-        private int parseInt(){
-            int result = 0;
-            char next = peekOne();
-            while (next >= '0' && next <= '9'){
-                result = result * 10 + (next - '0');
-                advanceOne();
-                next = peekOne();
-            }
-            return result;
+        public T decodeInto(T target, Reader in) throws DSONException{
+            return read(Objects.requireNonNull(target), new CharCursor(Objects.requireNonNull(in)));
         }
 
         /**
-         * Parses a double from the current point of the parser. This function can accept these decimal formats:
-         * <br><br>
-         * {@code 1. Whole numbers (e.g. 1)}
-         * <br><br>
-         * {@code 2. Decimals (e.g. 0.1, 0.123, .4)}
-         * <br><br>
-         * The function will stop parsing once a non-digit character is reached (after the first '.', of course)
-         * @return the parsed double value.
+         * Decodes a UTF-8 encoded JSON file into an existing value, see {@code decodeInto(Object, String)}.
+         * @param target the value to be decoded into.
+         * @param file the path of the JSON file.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization, including failures to read the file.
          */
-        private double parseDouble(){
-            double whole = 0, decimal = 0;
-            char next = peekOne();
-            while (next >= '0' && next <= '9'){
-                whole = whole * 10 + (next - '0');
-                advanceOne();
-                next = peekOne();
-            }
-            if (next == '.'){
-                advanceOne();
-                next = peekOne();
-                while (next >= '0' && next <= '9'){
-                    decimal += (next - '0');
-                    decimal /= 10;
-                    advanceOne();
-                    next = peekOne();
-                }
-            }
-            return whole + decimal;
+        public T decodeInto(T target, Path file) throws DSONException{
+            return read(Objects.requireNonNull(target), file);
         }
 
         /**
-         * Parses a float from the current point of the parser. This function can accept these decimal formats:
-         * <br><br>
-         * {@code 1. Whole numbers (e.g. 1)}
-         * <br><br>
-         * {@code 2. Decimals (e.g. 0.1, 0.123, .4f)}
-         * <br><br>
-         * The function will stop parsing once a non-digit character is reached (after the first '.', of course (and the optional f modifier))
-         * @return the parsed float value.
+         * Decodes a value from a cursor, with a Parser of its own.
+         * @param target the value to be decoded into, or null to create a new one.
+         * @param cursor the cursor placed at the start of the value.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization.
          */
-        private float parseFloat(){
-            float whole = 0, decimal = 0;
-            char next = peekOne();
-            while (next >= '0' && next <= '9'){
-                whole = whole * 10 + (next - '0');
-                advanceOne();
-                next = peekOne();
+        @SuppressWarnings("unchecked")
+        T read(T target, Cursor cursor) throws DSONException{
+            try {
+                return (T) new Parser(cursor, reuse).parseObject(type, null, target);
             }
-            if (next == '.'){
-                advanceOne();
-                next = peekOne();
-                while (next >= '0' && next <= '9'){
-                    decimal += (next - '0');
-                    decimal /= 10;
-                    advanceOne();
-                    next = peekOne();
-                }
+            catch(UncheckedIOException e){
+                throw new DSONException(e.getCause());
             }
-            option('f');
-            return whole + decimal;
         }
 
         /**
-         * Parses a boolean from the current parser position. Do note that Json is case-sensitive. This function will only accept 'true' and 'false' as boolean values, and they must be unwrapped in quotes.
-         * @return the boolean value parsed.
-         * @throws DSONException if the input format is invalid, an exception will be thrown.
+         * Decodes a value from a file, which is memory-mapped for the duration of the call.
+         * @param target the value to be decoded into, or null to create a new one.
+         * @param file the path of the JSON file.
+         * @return the decoded value.
+         * @throws DSONException an error has occured during deserialization, including failures to read the file.
          */
-        private boolean parseBoolean() throws DSONException {
-            StringBuilder result = new StringBuilder();
-            char next = peekOne();
-            while (next >= 'a' && next <= 'z'){
-                result.append(next);
-                advanceOne();
-                next = peekOne();
-            }
-            String value = result.toString();
-            if (value.equals("true")){
-                return true;
+        private T read(T target, Path file) throws DSONException{
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+                return read(target, new MappedCursor(channel));
             }
-            if (value.equals("false")){
-                return false;
+            catch(IOException e){
+                throw new DSONException(e);
             }
-            throw new DSONException();
         }
 
         /**
-         * Parses a string from the current parsing position. Strings should be wrapped in {@code \"quotes\"}.
-         * @return the parsed String value.
-         * @throws DSONException if the format is invalid, an exception will be thrown.
+         * Encodes a value into a JSON string, the same way as {@code getValue()}.
+         * @param value the value to be encoded.
+         * @return the JSON string.
+         * @throws DSONException if something has gone wrong during the serialization process.
          */
-        private String parseString() throws DSONException{
-            StringBuilder result = new StringBuilder();
-            expect('\"');
-            while (peekOne() != '\"'){
-                result.append(nextCharAsString());
+        public String encode(T value) throws DSONException{
+            return getValue(value);
+        }
+
+        /**
+         * Encodes a value into UTF-8 encoded JSON.
+         * @param value the value to be encoded.
+         * @return the UTF-8 bytes of the JSON.
+         * @throws DSONException if something has gone wrong during the serialization process.
+         */
+        public byte[] encodeToBytes(T value) throws DSONException{
+            ByteSink sink = new ByteSink(null);
+            write(value, sink);
+            return sink.toByteArray();
+        }
+
+        /**
+         * Encodes a value into JSON, writing it straight into an {@code Appendable}. The Appendable is neither flushed nor closed.
+         * @param value the value to be encoded.
+         * @param out the Appendable the JSON is written to.
+         * @throws DSONException if something has gone wrong during the serialization process, including failures to write to {@code out}.
+         */
+        public void encode(T value, Appendable out) throws DSONException{
+            write(value, new CharSink(Objects.requireNonNull(out)));
+        }
+
+        /**
+         * Encodes a value into JSON, writing it straight into an {@code OutputStream} as UTF-8. The stream is not closed.
+         * @param value the value to be encoded.
+         * @param out the stream the JSON is written to.
+         * @throws DSONException if something has gone wrong during the serialization process, including failures to write to {@code out}.
+         */
+        public void encode(T value, OutputStream out) throws DSONException{
+            write(value, new ByteSink(Objects.requireNonNull(out)));
+        }
+
+        /**
+         * Writes a value into a sink, and pushes it out to the sink's output.
+         * @param value the value to be written.
+         * @param sink the sink the JSON is written to.
+         * @throws DSONException if something has gone wrong during the serialization process.
+         */
+        private static void write(Object value, Sink sink) throws DSONException{
+            try {
+                writeValue(value, sink);
+                sink.flush();
+            }
+            catch(DSONException e){
+                throw e;
+            }
+            catch(Exception e){
+                throw new DSONException(e);
             }
-            expect('\"');
-            return result.toString();
         }
+    }
 
+    /**
+     * The state of a single parse: the {@code Cursor} over the document, and whether the instances already in place are reused.
+     * A Parser is created for each call of a {@code DSONCodec} or {@code DSONObject}, and nested objects are parsed by the same Parser, so the codecs themselves hold no mutable state.
+     * @author MaximusHartanto
+     */
+    static final class Parser {
+        final Cursor cursor;
+        private final boolean reuse;
         /**
-         * Parses a singular character from the current parsing position.  Characters should be wrapped in {@code \'quotes\'}.
-         * @return the parsed character value.
-         * @throws DSONException if the format is invalid, an exception will be thrown.
+         * The buffers arrays of primitives are collected in before being copied out, one per type. Each is created on first use and kept for the rest of the parse.
          */
-        private char parseChar() throws DSONException{
-            expect('\'');
-            char result = nextChar();
-            expect('\'');
-            return result;
+        private int[] intBuffer;
+        private long[] longBuffer;
+        private double[] doubleBuffer;
+        private float[] floatBuffer;
+        private boolean[] booleanBuffer;
+        private char[] charBuffer;
+
+        /**
+         * Constructs a parser.
+         * @param cursor the cursor placed at the start of the value to be parsed.
+         * @param reuse whether existing instances are reused, see {@code DSONObject.setReuse()}.
+         */
+        Parser(Cursor cursor, boolean reuse){
+            this.cursor = cursor;
+            this.reuse = reuse;
         }
 
         /**
@@ -559,6 +5625,7 @@ public class DSON {
          * {@code float -> Float},
          * {@code double -> Double},
          * {@code char -> Character},
+         * {@code long -> Long},
          * {@code String -> String},
          * {@code any other class -> itself}.
          * @param primitiveClass the class to be converted.
@@ -580,6 +5647,9 @@ public class DSON {
             if (primitiveClass == char.class){
                 return Character.class;
             }
+            if (primitiveClass == long.class){
+                return Long.class;
+            }
             return primitiveClass;
         }
 
@@ -591,6 +5661,7 @@ public class DSON {
          * {@code Float -> float},
          * {@code Double -> double},
          * {@code Character -> char},
+         * {@code Long -> long},
          * {@code String -> String},
          * {@code any other class -> itself}.
          * @param wrapperClass the class to be converted.
@@ -612,6 +5683,9 @@ public class DSON {
             if (wrapperClass == Character.class){
                 return char.class;
             }
+            if (wrapperClass == Long.class){
+                return long.class;
+            }
             return wrapperClass;
         }
 
@@ -625,22 +5699,25 @@ public class DSON {
          */
         private Object parsePrimitive(Class<?> primitiveClass) throws DSONException{
             if (primitiveClass == Integer.class){
-                return parseInt();
+                return cursor.readInt();
+            }
+            if (primitiveClass == Long.class){
+                return cursor.readLong();
             }
             if (primitiveClass == Double.class){
-                return parseDouble();
+                return cursor.readDouble();
             }
             if (primitiveClass == Float.class){
-                return parseFloat();
+                return cursor.readFloat();
             }
             if (primitiveClass == String.class){
-                return parseString();
+                return cursor.readString();
             }
             if (primitiveClass == Character.class){
-                return parseChar();
+                return cursor.readChar();
             }
             if (primitiveClass == Boolean.class){
-                return parseBoolean();
+                return cursor.readBoolean();
             }
             return null;
         }
@@ -657,29 +5734,235 @@ public class DSON {
         /**
          * Parses an array in the current parsing position. This function expects an array starting and ending with square brackets, and separated with commas. An empty array is allowed.
          * @param arrayClass the class of the array to be parsed.
+         * @param previous the array to be parsed into when reusing instances, or null. See {@code DSONObject.setReuse()}.
          * @return an Object, which is the parsed array value.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private Object parseTypicalArray(Class<?> arrayClass) throws DSONException {
-            expect('[');
+        private Object parseTypicalArray(Class<?> arrayClass, Object previous) throws DSONException {
             Class<?> underlyingType = arrayClass.getComponentType();
+            //Arrays of primitives are parsed straight into a primitive buffer, so their elements are never boxed
+            if (underlyingType == int.class){
+                return parseIntArray((int[]) previous);
+            } else if (underlyingType == long.class){
+                return parseLongArray((long[]) previous);
+            } else if (underlyingType == double.class){
+                return parseDoubleArray((double[]) previous);
+            } else if (underlyingType == float.class){
+                return parseFloatArray((float[]) previous);
+            } else if (underlyingType == boolean.class){
+                return parseBooleanArray((boolean[]) previous);
+            } else if (underlyingType == char.class){
+                return parseCharArray((char[]) previous);
+            }
+            if (!underlyingType.isPrimitive()){
+                //A previous array is only reused if it has as many elements as the JSON array, in which case each of its elements is the instance the element is parsed into
+                Object[] result = null;
+                if (previous != null && cursor.countElements() == ((Object[]) previous).length)
+                    result = (Object[]) previous;
+                if (result == null)
+                    result = (Object[]) Array.newInstance(underlyingType, 16);
+                int size = 0;
+                cursor.expect('[');
+                if (cursor.peek() != ']'){
+                    do {
+                        if (size == result.length)
+                            result = Arrays.copyOf(result, Math.max(16, size * 2));
+                        result[size] = parseObject(underlyingType, null, result[size]);
+                        size++;
+                    } while (nextElement());
+                }
+                cursor.expect(']');
+                return (size == result.length) ? result : Arrays.copyOf(result, size);
+            }
+            cursor.expect('[');
             List<Object> objects = new ArrayList<>();
-            char lookahead = peekOne();
+            char lookahead = cursor.peek();
             while (lookahead != ']'){
-                objects.add(parseObject(underlyingType, null));
-                lookahead = peekOne();
+                objects.add(parseObject(underlyingType, null, null));
+                lookahead = cursor.peek();
                 if (lookahead != ']') {
-                    expect(',');
-                    lookahead = peekOne();
+                    cursor.expect(',');
+                    lookahead = cursor.peek();
                 }
             }
-            expect(']');
+            cursor.expect(']');
             Object result = Array.newInstance(underlyingType, objects.size());
             for (int i = 0; i < objects.size(); i++)
                 Array.set(result, i, objects.get(i));
             return result;
         }
 
+        /**
+         * Checks if there is another element to be parsed in an array, consuming the separator comma if there is one.
+         * @return a boolean - true if another element follows, false if the closing bracket has been reached.
+         * @throws DSONException if the separator is missing.
+         */
+        private boolean nextElement() throws DSONException {
+            if (cursor.peek() == ']')
+                return false;
+            cursor.expect(',');
+            return true;
+        }
+
+        /**
+         * Parses an {@code int[]} from the current parsing position. The elements are collected in a buffer of the Parser, which doubles in size when full and is kept for the next array,
+         * and are copied out of it once at the end.
+         * <br><br>
+         * A previous array is only written into if the number of elements matches its length. Otherwise it is left untouched, and a new array is returned.
+         * @param previous the array to be parsed into when reusing instances, or null. See {@code DSONObject.setReuse()}.
+         * @return the parsed array.
+         * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
+         */
+        private int[] parseIntArray(int[] previous) throws DSONException {
+            cursor.expect('[');
+            int[] buffer = (intBuffer != null) ? intBuffer : new int[16];
+            int size = 0;
+            if (cursor.peek() != ']'){
+                do {
+                    if (size == buffer.length)
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    buffer[size++] = cursor.readInt();
+                } while (nextElement());
+            }
+            cursor.expect(']');
+            intBuffer = buffer;
+            if (previous != null && previous.length == size){
+                System.arraycopy(buffer, 0, previous, 0, size);
+                return previous;
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /**
+         * Parses a {@code long[]} from the current parsing position, the same way as {@code parseIntArray()}.
+         * @param previous the array to be parsed into when reusing instances, or null.
+         * @return the parsed array.
+         * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
+         */
+        private long[] parseLongArray(long[] previous) throws DSONException {
+            cursor.expect('[');
+            long[] buffer = (longBuffer != null) ? longBuffer : new long[16];
+            int size = 0;
+            if (cursor.peek() != ']'){
+                do {
+                    if (size == buffer.length)
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    buffer[size++] = cursor.readLong();
+                } while (nextElement());
+            }
+            cursor.expect(']');
+            longBuffer = buffer;
+            if (previous != null && previous.length == size){
+                System.arraycopy(buffer, 0, previous, 0, size);
+                return previous;
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /**
+         * Parses a {@code double[]} from the current parsing position, the same way as {@code parseIntArray()}.
+         * @param previous the array to be parsed into when reusing instances, or null.
+         * @return the parsed array.
+         * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
+         */
+        private double[] parseDoubleArray(double[] previous) throws DSONException {
+            cursor.expect('[');
+            double[] buffer = (doubleBuffer != null) ? doubleBuffer : new double[16];
+            int size = 0;
+            if (cursor.peek() != ']'){
+                do {
+                    if (size == buffer.length)
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    buffer[size++] = cursor.readDouble();
+                } while (nextElement());
+            }
+            cursor.expect(']');
+            doubleBuffer = buffer;
+            if (previous != null && previous.length == size){
+                System.arraycopy(buffer, 0, previous, 0, size);
+                return previous;
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /**
+         * Parses a {@code float[]} from the current parsing position, the same way as {@code parseIntArray()}.
+         * @param previous the array to be parsed into when reusing instances, or null.
+         * @return the parsed array.
+         * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
+         */
+        private float[] parseFloatArray(float[] previous) throws DSONException {
+            cursor.expect('[');
+            float[] buffer = (floatBuffer != null) ? floatBuffer : new float[16];
+            int size = 0;
+            if (cursor.peek() != ']'){
+                do {
+                    if (size == buffer.length)
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    buffer[size++] = cursor.readFloat();
+                } while (nextElement());
+            }
+            cursor.expect(']');
+            floatBuffer = buffer;
+            if (previous != null && previous.length == size){
+                System.arraycopy(buffer, 0, previous, 0, size);
+                return previous;
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /**
+         * Parses a {@code boolean[]} from the current parsing position, the same way as {@code parseIntArray()}.
+         * @param previous the array to be parsed into when reusing instances, or null.
+         * @return the parsed array.
+         * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
+         */
+        private boolean[] parseBooleanArray(boolean[] previous) throws DSONException {
+            cursor.expect('[');
+            boolean[] buffer = (booleanBuffer != null) ? booleanBuffer : new boolean[16];
+            int size = 0;
+            if (cursor.peek() != ']'){
+                do {
+                    if (size == buffer.length)
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    buffer[size++] = cursor.readBoolean();
+                } while (nextElement());
+            }
+            cursor.expect(']');
+            booleanBuffer = buffer;
+            if (previous != null && previous.length == size){
+                System.arraycopy(buffer, 0, previous, 0, size);
+                return previous;
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
+        /**
+         * Parses a {@code char[]} from the current parsing position, the same way as {@code parseIntArray()}.
+         * @param previous the array to be parsed into when reusing instances, or null.
+         * @return the parsed array.
+         * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
+         */
+        private char[] parseCharArray(char[] previous) throws DSONException {
+            cursor.expect('[');
+            char[] buffer = (charBuffer != null) ? charBuffer : new char[16];
+            int size = 0;
+            if (cursor.peek() != ']'){
+                do {
+                    if (size == buffer.length)
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    buffer[size++] = cursor.readChar();
+                } while (nextElement());
+            }
+            cursor.expect(']');
+            charBuffer = buffer;
+            if (previous != null && previous.length == size){
+                System.arraycopy(buffer, 0, previous, 0, size);
+                return previous;
+            }
+            return Arrays.copyOf(buffer, size);
+        }
+
         /**
          * Checks if a given class is one of a List class.
          * @param listClass the class to be checked.
@@ -692,24 +5975,26 @@ public class DSON {
         /**
          * Parses a list from the current parsing position. The type will be deduced from the class object. Square brackets and separator commas are expected during parsing.
          * @param listClass the class of the object to be parsed.
+         * @param previous the List to be cleared and refilled when reusing instances, or null.
          * @return a List object, containing the values from the JSON.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private List<?> parseList(Class<?> listClass, Field field) throws DSONException {
-            Class<?> underlyingClass = typeGetter.get(field);
-            expect('[');
-            char lookahead = peekOne();
-            List<Object> result = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        private List<?> parseList(Class<?> listClass, FieldInfo field, Object previous) throws DSONException {
+            Class<?> underlyingClass = field.elementType;
+            cursor.expect('[');
+            char lookahead = cursor.peek();
+            List<Object> result = clearForReuse(previous) ? (List<Object>) previous : new ArrayList<>();
             while (lookahead != ']'){
-                Object element = parseObject(underlyingClass, null);
+                Object element = parseObject(underlyingClass, null, null);
                 result.add(element);
-                lookahead = peekOne();
+                lookahead = cursor.peek();
                 if (lookahead != ']'){
-                    expect(',');
-                    lookahead = peekOne();
+                    cursor.expect(',');
+                    lookahead = cursor.peek();
                 }
             }
-            expect(']');
+            cursor.expect(']');
             return result;
         }
 
@@ -725,24 +6010,27 @@ public class DSON {
         /**
          * Parses a set class from the current parsing position. Do note that sets have the same syntax as arrays, e.g. square brackets and commas. The parsed type will be deduced from the class object.
          * @param setClass the class of the object to be parsed.
+         * @param previous the Set to be cleared and refilled when reusing instances, or null.
          * @return a Set object, containing the parsed data from JSON.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private Set<?> parseSet(Class<?> setClass, Field field) throws DSONException{
-            Class<?> underlyingClass = typeGetter.get(field);
-            expect('[');
-            char lookahead = peekOne();
-            Set<Object> result = new HashSet<>();
+        @SuppressWarnings("unchecked")
+        private Set<?> parseSet(Class<?> setClass, FieldInfo field, Object previous) throws DSONException{
+            Class<?> underlyingClass = field.elementType;
+            cursor.expect('[');
+            char lookahead = cursor.peek();
+            //Linked, so that the elements keep the order they were given in
+            Set<Object> result = clearForReuse(previous) ? (Set<Object>) previous : new LinkedHashSet<>();
             while (lookahead != ']'){
-                Object element = parseObject(underlyingClass, null);
+                Object element = parseObject(underlyingClass, null, null);
                 result.add(element);
-                lookahead = peekOne();
+                lookahead = cursor.peek();
                 if (lookahead != ']'){
-                    expect(',');
-                    lookahead = peekOne();
+                    cursor.expect(',');
+                    lookahead = cursor.peek();
                 }
             }
-            expect(']');
+            cursor.expect(']');
             return result;
         }
 
@@ -758,89 +6046,86 @@ public class DSON {
         /**
          * Parses a Map from the current parsing position. Maps are lists of Entry objects, and entry objects contain a "key" field and a "value" field. The type will be automatically deduced from the class passed into the function.
          * @param mapClass the class of the map to be parsed. Type metadata will be deduced from here.
+         * @param previous the Map to be cleared and refilled when reusing instances, or null.
          * @return the Map object with data parsed from the JSON.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private Map<?,?> parseMap(Class<?> mapClass, Field field) throws DSONException{
-            Class<?>[] mapArguments = mapTypeGetter.get(field);
-            Class<?> keyClass = mapArguments[0];
-            Class<?> valueClass = mapArguments[1];
-            expect('[');
-            char lookahead = peekOne();
-            Map<Object,Object> result = new HashMap<>();
-            //Key and value can be interchangeable
-            StringBuilder commonBuilder = new StringBuilder();
+        @SuppressWarnings("unchecked")
+        private Map<?,?> parseMap(Class<?> mapClass, FieldInfo field, Object previous) throws DSONException{
+            Class<?> keyClass = field.keyType;
+            Class<?> valueClass = field.valueType;
+            cursor.expect('[');
+            char lookahead = cursor.peek();
+            //Linked, so that the entries keep the order they were given in
+            Map<Object,Object> result = clearForReuse(previous) ? (Map<Object,Object>) previous : new LinkedHashMap<>();
             //Now, we parse every key-value object
+            //Key and value can be interchangeable
             while (lookahead != ']'){
                 Object key = null, value = null;
-                expect('{');
-                lookahead = peekOne();
-                commonBuilder.setLength(0);
-                //Linter doesn't like this but it is arguably more readable
-                //I *assume* it will compile to the same bytecode anyway, its just an alias...
-                StringBuilder firstArgument = commonBuilder;
-                while (lookahead != ':'){
-                    firstArgument.append(lookahead);
-                    advanceOne();
-                    lookahead = peekOne();
-                }
-                expect(':');
-                if (firstArgument.toString().equals("key")){
-                    key = parseObject(keyClass, null);
-                }
-                else if (firstArgument.toString().equals("value")){
-                    value = parseObject(valueClass, null);
-                }
-                expect(',');
-                lookahead = peekOne();
+                cursor.expect('{');
+                String firstArgument = cursor.readName();
+                cursor.expect(':');
+                if (firstArgument.equals("key")){
+                    key = parseObject(keyClass, null, null);
+                }
+                else if (firstArgument.equals("value")){
+                    value = parseObject(valueClass, null, null);
+                }
+                cursor.expect(',');
 
                 // -- NEXT ITEM --
 
-                commonBuilder.setLength(0);
-                StringBuilder secondArgument = commonBuilder;
-                while (lookahead != ':'){
-                    secondArgument.append(lookahead);
-                    advanceOne();
-                    lookahead = peekOne();
+                String secondArgument = cursor.readName();
+                cursor.expect(':');
+                if (secondArgument.equals("key")){
+                    key = parseObject(keyClass, null, null);
                 }
-                expect(':');
-                if (secondArgument.toString().equals("key")){
-                    key = parseObject(keyClass, null);
+                else if (secondArgument.equals("value")){
+                    value = parseObject(valueClass, null, null);
                 }
-                else if (secondArgument.toString().equals("value")){
-                    value = parseObject(valueClass, null);
-                }
-                expect('}');
-                lookahead = peekOne();
+                cursor.expect('}');
+                lookahead = cursor.peek();
                 if (lookahead != ']'){
-                    expect(',');
-                    lookahead = peekOne();
+                    cursor.expect(',');
+                    lookahead = cursor.peek();
                 }
                 result.put(key, value);
             }
-            expect(']');
+            cursor.expect(']');
             return result;
         }
 
         /**
-         * Gets an instance of a Class, e.g. invokes its no-arg constructor and gets the object created by it. The class must have a no-arg constructor defined for inner nested objects.
-         * @param objectClass the class of the object to be instantiated.
-         * @return the instantiated object.
-         * @throws DSONException if the object does not have a suitable constructor, an exception will be thrown.
+         * Empties a previous collection or map, so that it can be refilled instead of being replaced.
+         * @param previous the previous collection or map, or null.
+         * @return a boolean - true if it has been emptied, false if there is none or it cannot be modified.
          */
-        private static Object getClassInstance(Class<?> objectClass) throws DSONException {
+        private static boolean clearForReuse(Object previous){
             try {
-                Constructor<?>[] constructors = objectClass.getConstructors();
-                for (Constructor<?> c : constructors) {
-                    if (c.getParameterCount() == 0) {
-                        return c.newInstance();
-                    }
+                if (previous instanceof Collection<?> collection){
+                    collection.clear();
+                    return true;
+                }
+                if (previous instanceof Map<?, ?> map){
+                    map.clear();
+                    return true;
                 }
             }
-            catch (Exception e){
-                throw new DSONException();
+            catch(UnsupportedOperationException e){
+                //Immutable collections are replaced instead
             }
-            throw new DSONException();
+            return false;
+        }
+
+        /**
+         * Gets an instance of a Class, e.g. invokes its no-arg constructor and gets the object created by it. The class must have a no-arg constructor defined for inner nested objects, which may be non-public.
+         * The way the constructor is called is resolved once per class and cached in its {@code ClassLayout}, so this costs about as much as a plain {@code new}.
+         * @param objectClass the class of the object to be instantiated.
+         * @return the instantiated object.
+         * @throws DSONException if the object does not have a suitable constructor, an exception will be thrown.
+         */
+        private static Object getClassInstance(Class<?> objectClass) throws DSONException {
+            return ClassLayout.of(objectClass).newInstance();
         }
 
         /**
@@ -848,79 +6133,257 @@ public class DSON {
          * This function automatically deduces the correct parsing function from the Class's type metadata.
          * This function can also be called recursively in the case of object Lists or Arrays, as well as nested objects within classes.
          * @param objectClass the class to be parsed.
+         * @param previous the instance currently held in place of the value, which is parsed into instead of creating a new one where possible, or null. See {@code DSONObject.setReuse()}.
          * @return an Object, which is the parsed value of the class.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private Object parseObject(Class<?> objectClass, Field field) throws DSONException{
+        private Object parseObject(Class<?> objectClass, FieldInfo field, Object previous) throws DSONException{
+            if (previous != null && !objectClass.isInstance(previous)){
+                previous = null;
+            }
             if (isPrimitive(wrapperToPrimitive(objectClass))){
                 return parsePrimitive(primitiveToWrapper(objectClass));
             }
             else if (isTypicalArray(objectClass)){
-                return parseTypicalArray(objectClass);
+                return parseTypicalArray(objectClass, previous);
             }
             else if (isList(objectClass)){
                 if (field == null){
                     throw new DSONException();
                 }
-                return parseList(objectClass, field);
+                return parseList(objectClass, field, previous);
             }
             else if (isSet(objectClass)){
                 if (field == null){
                     throw new DSONException();
                 }
-                return parseSet(objectClass, field);
+                return parseSet(objectClass, field, previous);
             }
             else if (isMap(objectClass)){
                 if (field == null){
                     throw new DSONException();
                 }
-                return parseMap(objectClass, field);
+                return parseMap(objectClass, field, previous);
             }
             else{
-                Object innerObject = getClassInstance(objectClass);
-                DSONObject dson = new DSONObject(innerObject);
-                dson.overrideParser(queryParser);
-                dson.parseJSON();
+                Object innerObject = (previous != null) ? previous : getClassInstance(objectClass);
+                parseJSON(innerObject);
                 return innerObject;
             }
         }
 
         /**
-         * Parses a JSON string. This function is the entry point for parsing a JSON.
+         * Parses a JSON object into an object, setting its fields to the values found in the JSON. Nested objects are parsed through here as well.
+         * @param object the object to be parsed into.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private void parseJSON() throws DSONException{
-            expect('{');
+        private void parseJSON(Object object) throws DSONException{
+            //The field metadata is cached per class, so nested objects of the same class share it
+            ClassLayout layout = ClassLayout.of(object.getClass());
+            cursor.expect('{');
             while (true){
-                parseField();
-                if (peekOne() == '}')
+                parseField(object, layout);
+                if (cursor.peek() == '}')
                     break;
-                advanceOne();
+                cursor.expect(',');
             }
-            expect('}');
+            cursor.expect('}');
         }
 
         /**
          * Parses a field from the current parsing position. A field in JSON is a key: value pair, separated by commas. However, there cannot be a comma after the last field.
+         * @param object the object the field belongs to.
+         * @param layout the layout of the object's class.
          * @throws DSONException if something has gone wrong during the parsing process, an exception will be thrown.
          */
-        private void parseField() throws DSONException{
-            StringBuilder fieldName = new StringBuilder();
-            option('\"');
-            while (Character.isLetterOrDigit(peekOne())){
-                fieldName.append(nextCharAsString());
-            }
-            option('\"');
-            expect(':');
+        private void parseField(Object object, ClassLayout layout) throws DSONException{
+            //The name is matched in place, without creating a String for it
+            FieldInfo field = cursor.readField(layout);
+            cursor.expect(':');
 
-            Field field = fieldGetter.get(fieldName.toString());
-            Class<?> fieldClass = field.getType();
-            Object value = parseObject(fieldClass, field);
+            if (field == null){
+                //Fields the class does not have are stepped over
+                cursor.skipValue();
+                return;
+            }
+            AccessMode mode = accessMode;
+            if (mode == AccessMode.GENERATED)
+                layout.codec();
+            FieldAccessor accessor = field.accessor(mode);
+            Class<?> type = field.type;
             try {
-                field.set(object, value);
+                //Primitive fields are read and stored directly, without boxing them first
+                if (type == int.class){
+                    accessor.setInt(object, cursor.readInt());
+                } else if (type == double.class){
+                    accessor.setDouble(object, cursor.readDouble());
+                } else if (type == float.class){
+                    accessor.setFloat(object, cursor.readFloat());
+                } else if (type == boolean.class){
+                    accessor.setBoolean(object, cursor.readBoolean());
+                } else if (type == char.class){
+                    accessor.setChar(object, cursor.readChar());
+                } else {
+                    Object previous = reuse ? accessor.get(object) : null;
+                    Object value = parseObject(type, field, previous);
+                    //A reused instance is already in place
+                    if (value != previous)
+                        accessor.set(object, value);
+                }
+            } catch (DSONException e){
+                throw e;
             } catch (Exception e){
                 throw new DSONException();
             }
         }
     }
+
+    /**
+     * An object which contains JSON deserialization methods. DSON.DSON objects are constructed using DSON.DSON's {@code get()} function.
+     * Fields which are non-private and fields that are marked with the {@code DSON.DoNotSerialize} annotation will not be deserialized.
+     * Additionally, fields with the {@code DSON.Rename} annotation will accept a different field name from JSON.
+     * <br><br>
+     * A DSONObject is a thin wrapper around the {@code DSONCodec} of its object's class, which keeps the state of each parse in a {@code Parser} of its own.
+     * @author MaximusHartanto
+     */
+    public static class DSONObject {
+        private final Object object;
+        private boolean reuse;
+
+        /**
+         * Constructs a DSON.DSON object from an object.
+         * When the DSON.DSON object is parsed, the original object's fields will be updated with new values.
+         * @param o the object to be parsed
+         */
+        private DSONObject(Object o){
+            this.object = o;
+        }
+
+        /**
+         * Gets the codec which parses into the object.
+         * @return the codec of the object's class, reusing instances if this object does.
+         */
+        @SuppressWarnings("unchecked")
+        private DSONCodec<Object> objectCodec(){
+            return ((DSONCodec<Object>) DSONCodec.of(object.getClass())).withReuse(reuse);
+        }
+
+        /**
+         * Sets whether parsing reuses the instances the object already holds, instead of replacing them with new ones. This is off by default.
+         * <br><br>
+         * When on, nested objects are updated in place (as the object itself is), Lists, Sets and Maps are cleared and refilled, and arrays are parsed into the existing array
+         * if the number of elements matches its length. The elements of object arrays are updated in place as well. This avoids allocating a new object graph each time
+         * the same shape of JSON is parsed over and over, e.g. once per frame.
+         * <br><br>
+         * Fields which are not present in the JSON keep their previous values, including those of reused nested objects. Collections which cannot be modified are replaced,
+         * as are arrays of a different length, which are left untouched. Object arrays are counted before they are parsed to tell, so a document read from a Reader or stream
+         * holds each such array in memory while it is counted.
+         * @param reuse whether existing instances are reused.
+         */
+        public void setReuse(boolean reuse){
+            this.reuse = reuse;
+        }
+
+        /**
+         * Removes redundant whitespace from a JSON string. It is not trivial as Strings also contain whitespace.
+         * <br><br>
+         * The parser no longer needs this, since the {@code Cursor} skips whitespace by itself. It is kept around for compacting JSON strings, e.g. to compare them against the output of {@code serialize()}.
+         * @param s the string to be pre-formatted.
+         * @return a new properly formatted String.
+         */
+        private static String fixFormat(String s){
+            StringBuilder result = new StringBuilder();
+            //To be real, the only case we need to handle is strings, since we need to keep all the whitespace within them
+            //TODO create test for this
+            boolean isInsideString = false;
+            for (int i = 0; i < s.length(); i++){
+                char cur = s.charAt(i);
+                //If a string is passed in json, it will be \"
+                //If a string is passed within json, it will be \\\"
+                if (cur == '"' && (i == 0 || !(s.charAt(i-1) == '\\'))){
+                    isInsideString ^= true;
+                } else if (!isInsideString){
+                    if (cur == ' ' || cur == '\n')
+                        continue;
+                }
+                result.append(cur);
+            }
+            return result.toString();
+        }
+
+        /**
+         * Deserializes a JSON string into this DSON.DSON object.
+         * This populates the object's fields with data retrieved from JSON.
+         * @implNote Do note that all object field names will be lowercased by default, the lowercase name will be used to search for fields within the JSON.
+         * For example, if you have a field called theNumberThree, the entry with the name "thenumberthree: ..." will be associated with that field.
+         * @param JSON the JSON string to be deserialized.
+         * The string does not need to be formatted, whitespace/newlines between tokens are skipped while parsing.
+         * @throws DSONException an error has occured during deserialization.
+         */
+        public void parse(String JSON) throws DSONException{
+            objectCodec().decodeInto(object, JSON);
+        }
+
+        /**
+         * Deserializes a JSON document read from a {@code Reader} into this DSON.DSON object.
+         * The document is parsed as it is read, through a small buffer, so it never has to be held in memory as a whole.
+         * <br><br>
+         * Reading stops right after the closing brace of the object. The Reader is not closed.
+         * @param in the Reader the JSON document is read from.
+         * @throws DSONException an error has occured during deserialization, including failures to read from {@code in}.
+         */
+        public void parse(Reader in) throws DSONException{
+            objectCodec().decodeInto(object, in);
+        }
+
+        /**
+         * Deserializes a UTF-8 encoded JSON document read from an {@code InputStream} into this DSON.DSON object.
+         * Like {@code parse(Reader)}, the document is parsed as it is read. The stream is not closed.
+         * @param in the stream the JSON document is read from.
+         * @throws DSONException an error has occured during deserialization, including failures to read from {@code in}.
+         */
+        public void parse(InputStream in) throws DSONException{
+            parse(new InputStreamReader(Objects.requireNonNull(in), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Deserializes a UTF-8 encoded JSON document read from a {@code ReadableByteChannel} (e.g. a {@code FileChannel} or a socket) into this DSON.DSON object.
+         * Like {@code parse(Reader)}, the document is parsed as it is read. The channel is not closed.
+         * @param in the channel the JSON document is read from.
+         * @throws DSONException an error has occured during deserialization, including failures to read from {@code in}.
+         */
+        public void parse(ReadableByteChannel in) throws DSONException{
+            parse(Channels.newReader(Objects.requireNonNull(in), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Deserializes a UTF-8 encoded JSON document into this DSON.DSON object. The document is parsed straight from its bytes, and only the contents of String values are decoded.
+         * @param json the UTF-8 bytes of the document.
+         * @throws DSONException an error has occured during deserialization.
+         */
+        public void parse(byte[] json) throws DSONException{
+            objectCodec().decodeInto(object, json);
+        }
+
+        /**
+         * Deserializes a UTF-8 encoded JSON document into this DSON.DSON object, by first building a structural index of the document (see {@code StructuralIndex}).
+         * The index costs one extra pass over the document, in exchange for which Strings, and any fields the object does not have, are stepped over in a single jump.
+         * This pays off for large documents, especially ones with many fields that are not needed.
+         * @param json the UTF-8 bytes of the document.
+         * @throws DSONException an error has occured during deserialization.
+         */
+        public void parseIndexed(byte[] json) throws DSONException{
+            objectCodec().read(object, new IndexedCursor(ByteBuffer.wrap(json), StructuralIndex.build(json)));
+        }
+
+        /**
+         * Deserializes a UTF-8 encoded JSON file into this DSON.DSON object.
+         * The file is memory-mapped and parsed straight from its bytes, so it is never read into a String. Only the contents of String values are decoded.
+         * @param file the path of the JSON file.
+         * @throws DSONException an error has occured during deserialization, including failures to read the file.
+         */
+        public void parse(Path file) throws DSONException{
+            objectCodec().decodeInto(object, file);
+        }
+    }
 }
\ No newline at end of file
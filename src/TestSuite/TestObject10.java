@@ -0,0 +1,10 @@
+package TestSuite;
+
+public class TestObject10 {
+    public static int created;
+    public int id;
+
+    private TestObject10(){
+        created++;
+    }
+}
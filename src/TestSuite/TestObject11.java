@@ -0,0 +1,10 @@
+package TestSuite;
+
+public class TestObject11 {
+    public int i0, i1, i2, i3, i4, i5, i6, i7, i8, i9, i10, i11, i12, i13, i14, i15, i16, i17, i18, i19, i20, i21, i22, i23, i24, i25, i26, i27, i28, i29, i30, i31, i32, i33, i34, i35, i36, i37, i38, i39, i40, i41, i42, i43, i44, i45, i46, i47, i48, i49, i50, i51, i52, i53, i54, i55, i56, i57, i58, i59, i60, i61, i62, i63, i64, i65, i66, i67, i68, i69, i70, i71, i72, i73, i74, i75, i76, i77, i78, i79, i80, i81, i82, i83, i84, i85, i86, i87, i88, i89, i90, i91, i92, i93, i94, i95, i96, i97, i98, i99, i100, i101, i102, i103, i104, i105, i106, i107, i108, i109, i110, i111, i112, i113, i114, i115, i116, i117, i118, i119, i120, i121, i122, i123, i124, i125, i126, i127, i128, i129, i130, i131, i132, i133, i134, i135, i136, i137, i138, i139, i140, i141, i142, i143, i144, i145, i146, i147, i148, i149, i150, i151, i152, i153, i154, i155, i156, i157, i158, i159, i160, i161, i162, i163, i164, i165, i166, i167, i168, i169, i170, i171, i172, i173, i174, i175, i176, i177, i178, i179, i180, i181, i182, i183, i184, i185, i186, i187, i188, i189, i190, i191, i192, i193, i194, i195, i196, i197, i198, i199, i200, i201, i202, i203, i204, i205, i206, i207, i208, i209, i210, i211, i212, i213, i214, i215, i216, i217, i218, i219, i220, i221, i222, i223, i224, i225, i226, i227, i228, i229, i230, i231, i232, i233, i234, i235, i236, i237, i238, i239, i240, i241, i242, i243, i244, i245, i246, i247, i248, i249, i250, i251, i252, i253, i254, i255, i256, i257, i258, i259, i260, i261, i262, i263, i264, i265, i266, i267, i268, i269, i270, i271, i272, i273, i274, i275, i276, i277, i278, i279, i280, i281, i282, i283, i284, i285, i286, i287, i288, i289, i290, i291, i292, i293, i294, i295, i296, i297, i298, i299, i300, i301, i302, i303, i304, i305, i306, i307, i308, i309, i310, i311, i312, i313, i314, i315, i316, i317, i318, i319, i320, i321, i322, i323, i324, i325, i326, i327, i328, i329, i330, i331, i332, i333, i334, i335, i336, i337, i338, i339, i340, i341, i342, i343, i344, i345, i346, i347, i348, i349, i350, i351, i352, i353, i354, i355, i356, i357, i358, i359, i360, i361, i362, i363, i364, i365, i366, i367, i368, i369, i370, i371, i372, i373, i374, i375, i376, i377, i378, i379, i380, i381, i382, i383, i384, i385, i386, i387, i388, i389, i390, i391, i392, i393, i394, i395, i396, i397, i398, i399, i400, i401, i402, i403, i404, i405, i406, i407, i408, i409, i410, i411, i412, i413, i414, i415, i416, i417, i418, i419, i420, i421, i422, i423, i424, i425, i426, i427, i428, i429, i430, i431, i432, i433, i434, i435, i436, i437, i438, i439, i440, i441, i442, i443, i444, i445, i446, i447, i448, i449, i450, i451, i452, i453, i454, i455, i456, i457, i458, i459, i460, i461, i462, i463, i464, i465, i466, i467, i468, i469, i470, i471, i472, i473, i474, i475, i476, i477, i478, i479, i480, i481, i482, i483, i484, i485, i486, i487, i488, i489, i490, i491, i492, i493, i494, i495, i496, i497, i498, i499, i500, i501, i502, i503, i504, i505, i506, i507, i508, i509, i510, i511, i512, i513, i514, i515, i516, i517, i518, i519, i520, i521, i522, i523, i524, i525, i526, i527, i528, i529, i530, i531, i532, i533, i534, i535, i536, i537, i538, i539, i540, i541, i542, i543, i544, i545, i546, i547, i548, i549, i550, i551, i552, i553, i554, i555, i556, i557, i558, i559, i560, i561, i562, i563, i564, i565, i566, i567, i568, i569, i570, i571, i572, i573, i574, i575, i576, i577, i578, i579, i580, i581, i582, i583, i584, i585, i586, i587, i588, i589, i590, i591, i592, i593, i594, i595, i596, i597, i598, i599, i600, i601, i602, i603, i604, i605, i606, i607, i608, i609, i610, i611, i612, i613, i614, i615, i616, i617, i618, i619, i620, i621, i622, i623, i624, i625, i626, i627, i628, i629, i630, i631, i632, i633, i634, i635, i636, i637, i638, i639, i640, i641, i642, i643, i644, i645, i646, i647, i648, i649, i650, i651, i652, i653, i654, i655, i656, i657, i658, i659, i660, i661, i662, i663, i664, i665, i666, i667, i668, i669, i670, i671, i672, i673, i674, i675, i676, i677, i678, i679, i680, i681, i682, i683, i684, i685, i686, i687, i688, i689, i690, i691, i692, i693, i694, i695, i696, i697, i698, i699, i700, i701, i702, i703, i704, i705, i706, i707, i708, i709, i710, i711, i712, i713, i714, i715, i716, i717, i718, i719, i720, i721, i722, i723, i724, i725, i726, i727, i728, i729, i730, i731, i732, i733, i734, i735, i736, i737, i738, i739, i740, i741, i742, i743, i744, i745, i746, i747, i748, i749, i750, i751, i752, i753, i754, i755, i756, i757, i758, i759, i760, i761, i762, i763, i764, i765, i766, i767, i768, i769, i770, i771, i772, i773, i774, i775, i776, i777, i778, i779, i780, i781, i782, i783, i784, i785, i786, i787, i788, i789, i790, i791, i792, i793, i794, i795, i796, i797, i798, i799, i800, i801, i802, i803, i804, i805, i806, i807, i808, i809, i810, i811, i812, i813, i814, i815, i816, i817, i818, i819, i820, i821, i822, i823, i824, i825, i826, i827, i828, i829, i830, i831, i832, i833, i834, i835, i836, i837, i838, i839, i840, i841, i842, i843, i844, i845, i846, i847, i848, i849, i850, i851, i852, i853, i854, i855, i856, i857, i858, i859, i860, i861, i862, i863, i864, i865, i866, i867, i868, i869, i870, i871, i872, i873, i874, i875, i876, i877, i878, i879, i880, i881, i882, i883, i884, i885, i886, i887, i888, i889, i890, i891, i892, i893, i894, i895, i896, i897, i898, i899, i900, i901, i902, i903, i904, i905, i906, i907, i908, i909, i910, i911, i912, i913, i914, i915, i916, i917, i918, i919, i920, i921, i922, i923, i924, i925, i926, i927, i928, i929, i930, i931, i932, i933, i934, i935, i936, i937, i938, i939, i940, i941, i942, i943, i944, i945, i946, i947, i948, i949, i950, i951, i952, i953, i954, i955, i956, i957, i958, i959, i960, i961, i962, i963, i964, i965, i966, i967, i968, i969, i970, i971, i972, i973, i974, i975, i976, i977, i978, i979, i980, i981, i982, i983, i984, i985, i986, i987, i988, i989, i990, i991, i992, i993, i994, i995, i996, i997, i998, i999, i1000, i1001, i1002, i1003, i1004, i1005, i1006, i1007, i1008, i1009, i1010, i1011, i1012, i1013, i1014, i1015, i1016, i1017, i1018, i1019, i1020, i1021, i1022, i1023, i1024, i1025, i1026, i1027, i1028, i1029, i1030, i1031, i1032, i1033, i1034, i1035, i1036, i1037, i1038, i1039, i1040, i1041, i1042, i1043, i1044, i1045, i1046, i1047, i1048, i1049, i1050, i1051, i1052, i1053, i1054, i1055, i1056, i1057, i1058, i1059, i1060, i1061, i1062, i1063, i1064, i1065, i1066, i1067, i1068, i1069, i1070, i1071, i1072, i1073, i1074, i1075, i1076, i1077, i1078, i1079, i1080, i1081, i1082, i1083, i1084, i1085, i1086, i1087, i1088, i1089, i1090, i1091, i1092, i1093, i1094, i1095, i1096, i1097, i1098, i1099, i1100, i1101, i1102, i1103, i1104, i1105, i1106, i1107, i1108, i1109, i1110, i1111, i1112, i1113, i1114, i1115, i1116, i1117, i1118, i1119, i1120, i1121, i1122, i1123, i1124, i1125, i1126, i1127, i1128, i1129, i1130, i1131, i1132, i1133, i1134, i1135, i1136, i1137, i1138, i1139, i1140, i1141, i1142, i1143, i1144, i1145, i1146, i1147, i1148, i1149, i1150, i1151, i1152, i1153, i1154, i1155, i1156, i1157, i1158, i1159, i1160, i1161, i1162, i1163, i1164, i1165, i1166, i1167, i1168, i1169, i1170, i1171, i1172, i1173, i1174, i1175, i1176, i1177, i1178, i1179, i1180, i1181, i1182, i1183, i1184, i1185, i1186, i1187, i1188, i1189, i1190, i1191, i1192, i1193, i1194, i1195, i1196, i1197, i1198, i1199, i1200, i1201, i1202, i1203, i1204, i1205, i1206, i1207, i1208, i1209, i1210, i1211, i1212, i1213, i1214, i1215, i1216, i1217, i1218, i1219, i1220, i1221, i1222, i1223, i1224, i1225, i1226, i1227, i1228, i1229, i1230, i1231, i1232, i1233, i1234, i1235, i1236, i1237, i1238, i1239, i1240, i1241, i1242, i1243, i1244, i1245, i1246, i1247, i1248, i1249, i1250, i1251, i1252, i1253, i1254, i1255, i1256, i1257, i1258, i1259, i1260, i1261, i1262, i1263, i1264, i1265, i1266, i1267, i1268, i1269, i1270, i1271, i1272, i1273, i1274, i1275, i1276, i1277, i1278, i1279, i1280, i1281, i1282, i1283, i1284, i1285, i1286, i1287, i1288, i1289, i1290, i1291, i1292, i1293, i1294, i1295, i1296, i1297, i1298, i1299, i1300, i1301, i1302, i1303, i1304, i1305, i1306, i1307, i1308, i1309, i1310, i1311, i1312, i1313, i1314, i1315, i1316, i1317, i1318, i1319, i1320, i1321, i1322, i1323, i1324, i1325, i1326, i1327, i1328, i1329, i1330, i1331, i1332, i1333, i1334, i1335, i1336, i1337, i1338, i1339, i1340, i1341, i1342, i1343, i1344, i1345, i1346, i1347, i1348, i1349, i1350, i1351, i1352, i1353, i1354, i1355, i1356, i1357, i1358, i1359, i1360, i1361, i1362, i1363, i1364, i1365, i1366, i1367, i1368, i1369, i1370, i1371, i1372, i1373, i1374, i1375, i1376, i1377, i1378, i1379, i1380, i1381, i1382, i1383, i1384, i1385, i1386, i1387, i1388, i1389, i1390, i1391, i1392, i1393, i1394, i1395, i1396, i1397, i1398, i1399, i1400, i1401, i1402, i1403, i1404, i1405, i1406, i1407, i1408, i1409, i1410, i1411, i1412, i1413, i1414, i1415, i1416, i1417, i1418, i1419, i1420, i1421, i1422, i1423, i1424, i1425, i1426, i1427, i1428, i1429, i1430, i1431, i1432, i1433, i1434, i1435, i1436, i1437, i1438, i1439, i1440, i1441, i1442, i1443, i1444, i1445, i1446, i1447, i1448, i1449, i1450, i1451, i1452, i1453, i1454, i1455, i1456, i1457, i1458, i1459, i1460, i1461, i1462, i1463, i1464, i1465, i1466, i1467, i1468, i1469, i1470, i1471, i1472, i1473, i1474, i1475, i1476, i1477, i1478, i1479, i1480, i1481, i1482, i1483, i1484, i1485, i1486, i1487, i1488, i1489, i1490, i1491, i1492, i1493, i1494, i1495, i1496, i1497, i1498, i1499, i1500, i1501, i1502, i1503, i1504, i1505, i1506, i1507, i1508, i1509, i1510, i1511, i1512, i1513, i1514, i1515, i1516, i1517, i1518, i1519, i1520, i1521, i1522, i1523, i1524, i1525, i1526, i1527, i1528, i1529, i1530, i1531, i1532, i1533, i1534, i1535, i1536, i1537, i1538, i1539, i1540, i1541, i1542, i1543, i1544, i1545, i1546, i1547, i1548, i1549, i1550, i1551, i1552, i1553, i1554, i1555, i1556, i1557, i1558, i1559, i1560, i1561, i1562, i1563, i1564, i1565, i1566, i1567, i1568, i1569, i1570, i1571, i1572, i1573, i1574, i1575, i1576, i1577, i1578, i1579, i1580, i1581, i1582, i1583, i1584, i1585, i1586, i1587, i1588, i1589, i1590, i1591, i1592, i1593, i1594, i1595, i1596, i1597, i1598, i1599, i1600, i1601, i1602, i1603, i1604, i1605, i1606, i1607, i1608, i1609, i1610, i1611, i1612, i1613, i1614, i1615, i1616, i1617, i1618, i1619, i1620, i1621, i1622, i1623, i1624, i1625, i1626, i1627, i1628, i1629, i1630, i1631, i1632, i1633, i1634, i1635, i1636, i1637, i1638, i1639, i1640, i1641, i1642, i1643, i1644, i1645, i1646, i1647, i1648, i1649, i1650, i1651, i1652, i1653, i1654, i1655, i1656, i1657, i1658, i1659, i1660, i1661, i1662, i1663, i1664, i1665, i1666, i1667, i1668, i1669, i1670, i1671, i1672, i1673, i1674, i1675, i1676, i1677, i1678, i1679, i1680, i1681, i1682, i1683, i1684, i1685, i1686, i1687, i1688, i1689, i1690, i1691, i1692, i1693, i1694, i1695, i1696, i1697, i1698, i1699, i1700, i1701, i1702, i1703, i1704, i1705, i1706, i1707, i1708, i1709, i1710, i1711, i1712, i1713, i1714, i1715, i1716, i1717, i1718, i1719, i1720, i1721, i1722, i1723, i1724, i1725, i1726, i1727, i1728, i1729, i1730, i1731, i1732, i1733, i1734, i1735, i1736, i1737, i1738, i1739, i1740, i1741, i1742, i1743, i1744, i1745, i1746, i1747, i1748, i1749, i1750, i1751, i1752, i1753, i1754, i1755, i1756, i1757, i1758, i1759, i1760, i1761, i1762, i1763, i1764, i1765, i1766, i1767, i1768, i1769, i1770, i1771, i1772, i1773, i1774, i1775, i1776, i1777, i1778, i1779, i1780, i1781, i1782, i1783, i1784, i1785, i1786, i1787, i1788, i1789, i1790, i1791, i1792, i1793, i1794, i1795, i1796, i1797, i1798, i1799, i1800, i1801, i1802, i1803, i1804, i1805, i1806, i1807, i1808, i1809, i1810, i1811, i1812, i1813, i1814, i1815, i1816, i1817, i1818, i1819, i1820, i1821, i1822, i1823, i1824, i1825, i1826, i1827, i1828, i1829, i1830, i1831, i1832, i1833, i1834, i1835, i1836, i1837, i1838, i1839, i1840, i1841, i1842, i1843, i1844, i1845, i1846, i1847, i1848, i1849, i1850, i1851, i1852, i1853, i1854, i1855, i1856, i1857, i1858, i1859, i1860, i1861, i1862, i1863, i1864, i1865, i1866, i1867, i1868, i1869, i1870, i1871, i1872, i1873, i1874, i1875, i1876, i1877, i1878, i1879, i1880, i1881, i1882, i1883, i1884, i1885, i1886, i1887, i1888, i1889, i1890, i1891, i1892, i1893, i1894, i1895, i1896, i1897, i1898, i1899, i1900, i1901, i1902, i1903, i1904, i1905, i1906, i1907, i1908, i1909, i1910, i1911, i1912, i1913, i1914, i1915, i1916, i1917, i1918, i1919, i1920, i1921, i1922, i1923, i1924, i1925, i1926, i1927, i1928, i1929, i1930, i1931, i1932, i1933, i1934, i1935, i1936, i1937, i1938, i1939, i1940, i1941, i1942, i1943, i1944, i1945, i1946, i1947, i1948, i1949, i1950, i1951, i1952, i1953, i1954, i1955, i1956, i1957, i1958, i1959, i1960, i1961, i1962, i1963, i1964, i1965, i1966, i1967, i1968, i1969, i1970, i1971, i1972, i1973, i1974, i1975, i1976, i1977, i1978, i1979, i1980, i1981, i1982, i1983, i1984, i1985, i1986, i1987, i1988, i1989, i1990, i1991, i1992, i1993, i1994, i1995, i1996, i1997, i1998, i1999, i2000, i2001, i2002, i2003, i2004, i2005, i2006, i2007, i2008, i2009, i2010, i2011, i2012, i2013, i2014, i2015, i2016, i2017, i2018, i2019, i2020, i2021, i2022, i2023, i2024, i2025, i2026, i2027, i2028, i2029, i2030, i2031, i2032, i2033, i2034, i2035, i2036, i2037, i2038, i2039, i2040, i2041, i2042, i2043, i2044, i2045, i2046, i2047, i2048, i2049, i2050, i2051, i2052, i2053, i2054, i2055, i2056, i2057, i2058, i2059, i2060, i2061, i2062, i2063, i2064, i2065, i2066, i2067, i2068, i2069, i2070, i2071, i2072, i2073, i2074, i2075, i2076, i2077, i2078, i2079, i2080, i2081, i2082, i2083, i2084, i2085, i2086, i2087, i2088, i2089, i2090, i2091, i2092, i2093, i2094, i2095, i2096, i2097, i2098, i2099, i2100, i2101, i2102, i2103, i2104, i2105, i2106, i2107, i2108, i2109, i2110, i2111, i2112, i2113, i2114, i2115, i2116, i2117, i2118, i2119, i2120, i2121, i2122, i2123, i2124, i2125, i2126, i2127, i2128, i2129, i2130, i2131, i2132, i2133, i2134, i2135, i2136, i2137, i2138, i2139, i2140, i2141, i2142, i2143, i2144, i2145, i2146, i2147, i2148, i2149, i2150, i2151, i2152, i2153, i2154, i2155, i2156, i2157, i2158, i2159, i2160, i2161, i2162, i2163, i2164, i2165, i2166, i2167, i2168, i2169, i2170, i2171, i2172, i2173, i2174, i2175, i2176, i2177, i2178, i2179, i2180, i2181, i2182, i2183, i2184, i2185, i2186, i2187, i2188, i2189, i2190, i2191, i2192, i2193, i2194, i2195, i2196, i2197, i2198, i2199, i2200, i2201, i2202, i2203, i2204, i2205, i2206, i2207, i2208, i2209, i2210, i2211, i2212, i2213, i2214, i2215, i2216, i2217, i2218, i2219, i2220, i2221, i2222, i2223, i2224, i2225, i2226, i2227, i2228, i2229, i2230, i2231, i2232, i2233, i2234, i2235, i2236, i2237, i2238, i2239, i2240, i2241, i2242, i2243, i2244, i2245, i2246, i2247, i2248, i2249, i2250, i2251, i2252, i2253, i2254, i2255, i2256, i2257, i2258, i2259, i2260, i2261, i2262, i2263, i2264, i2265, i2266, i2267, i2268, i2269, i2270, i2271, i2272, i2273, i2274, i2275, i2276, i2277, i2278, i2279, i2280, i2281, i2282, i2283, i2284, i2285, i2286, i2287, i2288, i2289, i2290, i2291, i2292, i2293, i2294, i2295, i2296, i2297, i2298, i2299, i2300, i2301, i2302, i2303, i2304, i2305, i2306, i2307, i2308, i2309, i2310, i2311, i2312, i2313, i2314, i2315, i2316, i2317, i2318, i2319, i2320, i2321, i2322, i2323, i2324, i2325, i2326, i2327, i2328, i2329, i2330, i2331, i2332, i2333, i2334, i2335, i2336, i2337, i2338, i2339, i2340, i2341, i2342, i2343, i2344, i2345, i2346, i2347, i2348, i2349, i2350, i2351, i2352, i2353, i2354, i2355, i2356, i2357, i2358, i2359, i2360, i2361, i2362, i2363, i2364, i2365, i2366, i2367, i2368, i2369, i2370, i2371, i2372, i2373, i2374, i2375, i2376, i2377, i2378, i2379, i2380, i2381, i2382, i2383, i2384, i2385, i2386, i2387, i2388, i2389, i2390, i2391, i2392, i2393, i2394, i2395, i2396, i2397, i2398, i2399, i2400, i2401, i2402, i2403, i2404, i2405, i2406, i2407, i2408, i2409, i2410, i2411, i2412, i2413, i2414, i2415, i2416, i2417, i2418, i2419, i2420, i2421, i2422, i2423, i2424, i2425, i2426, i2427, i2428, i2429, i2430, i2431, i2432, i2433, i2434, i2435, i2436, i2437, i2438, i2439, i2440, i2441, i2442, i2443, i2444, i2445, i2446, i2447, i2448, i2449, i2450, i2451, i2452, i2453, i2454, i2455, i2456, i2457, i2458, i2459, i2460, i2461, i2462, i2463, i2464, i2465, i2466, i2467, i2468, i2469, i2470, i2471, i2472, i2473, i2474, i2475, i2476, i2477, i2478, i2479, i2480, i2481, i2482, i2483, i2484, i2485, i2486, i2487, i2488, i2489, i2490, i2491, i2492, i2493, i2494, i2495, i2496, i2497, i2498, i2499, i2500, i2501, i2502, i2503, i2504, i2505, i2506, i2507, i2508, i2509, i2510, i2511, i2512, i2513, i2514, i2515, i2516, i2517, i2518, i2519, i2520, i2521, i2522, i2523, i2524, i2525, i2526, i2527, i2528, i2529, i2530, i2531, i2532, i2533, i2534, i2535, i2536, i2537, i2538, i2539, i2540, i2541, i2542, i2543, i2544, i2545, i2546, i2547, i2548, i2549, i2550, i2551, i2552, i2553, i2554, i2555, i2556, i2557, i2558, i2559, i2560, i2561, i2562, i2563, i2564, i2565, i2566, i2567, i2568, i2569, i2570, i2571, i2572, i2573, i2574, i2575, i2576, i2577, i2578, i2579, i2580, i2581, i2582, i2583, i2584, i2585, i2586, i2587, i2588, i2589, i2590, i2591, i2592, i2593, i2594, i2595, i2596, i2597, i2598, i2599, i2600, i2601, i2602, i2603, i2604, i2605, i2606, i2607, i2608, i2609, i2610, i2611, i2612, i2613, i2614, i2615, i2616, i2617, i2618, i2619, i2620, i2621, i2622, i2623, i2624, i2625, i2626, i2627, i2628, i2629, i2630, i2631, i2632, i2633, i2634, i2635, i2636, i2637, i2638, i2639, i2640, i2641, i2642, i2643, i2644, i2645, i2646, i2647, i2648, i2649, i2650, i2651, i2652, i2653, i2654, i2655, i2656, i2657, i2658, i2659, i2660, i2661, i2662, i2663, i2664, i2665, i2666, i2667, i2668, i2669, i2670, i2671, i2672, i2673, i2674, i2675, i2676, i2677, i2678, i2679, i2680, i2681, i2682, i2683, i2684, i2685, i2686, i2687, i2688, i2689, i2690, i2691, i2692, i2693, i2694, i2695, i2696, i2697, i2698, i2699, i2700, i2701, i2702, i2703, i2704, i2705, i2706, i2707, i2708, i2709, i2710, i2711, i2712, i2713, i2714, i2715, i2716, i2717, i2718, i2719, i2720, i2721, i2722, i2723, i2724, i2725, i2726, i2727, i2728, i2729, i2730, i2731, i2732, i2733, i2734, i2735, i2736, i2737, i2738, i2739, i2740, i2741, i2742, i2743, i2744, i2745, i2746, i2747, i2748, i2749, i2750, i2751, i2752, i2753, i2754, i2755, i2756, i2757, i2758, i2759, i2760, i2761, i2762, i2763, i2764, i2765, i2766, i2767, i2768, i2769, i2770, i2771, i2772, i2773, i2774, i2775, i2776, i2777, i2778, i2779, i2780, i2781, i2782, i2783, i2784, i2785, i2786, i2787, i2788, i2789, i2790, i2791, i2792, i2793, i2794, i2795, i2796, i2797, i2798, i2799, i2800, i2801, i2802, i2803, i2804, i2805, i2806, i2807, i2808, i2809, i2810, i2811, i2812, i2813, i2814, i2815, i2816, i2817, i2818, i2819, i2820, i2821, i2822, i2823, i2824, i2825, i2826, i2827, i2828, i2829, i2830, i2831, i2832, i2833, i2834, i2835, i2836, i2837, i2838, i2839, i2840, i2841, i2842, i2843, i2844, i2845, i2846, i2847, i2848, i2849, i2850, i2851, i2852, i2853, i2854, i2855, i2856, i2857, i2858, i2859, i2860, i2861, i2862, i2863, i2864, i2865, i2866, i2867, i2868, i2869, i2870, i2871, i2872, i2873, i2874, i2875, i2876, i2877, i2878, i2879, i2880, i2881, i2882, i2883, i2884, i2885, i2886, i2887, i2888, i2889, i2890, i2891, i2892, i2893, i2894, i2895, i2896, i2897, i2898, i2899, i2900, i2901, i2902, i2903, i2904, i2905, i2906, i2907, i2908, i2909, i2910, i2911, i2912, i2913, i2914, i2915, i2916, i2917, i2918, i2919, i2920, i2921, i2922, i2923, i2924, i2925, i2926, i2927, i2928, i2929, i2930, i2931, i2932, i2933, i2934, i2935, i2936, i2937, i2938, i2939, i2940, i2941, i2942, i2943, i2944, i2945, i2946, i2947, i2948, i2949, i2950, i2951, i2952, i2953, i2954, i2955, i2956, i2957, i2958, i2959, i2960, i2961, i2962, i2963, i2964, i2965, i2966, i2967, i2968, i2969, i2970, i2971, i2972, i2973, i2974, i2975, i2976, i2977, i2978, i2979, i2980, i2981, i2982, i2983, i2984, i2985, i2986, i2987, i2988, i2989, i2990, i2991, i2992, i2993, i2994, i2995, i2996, i2997, i2998, i2999;
+    public String s0 = "", s1 = "", s2 = "", s3 = "", s4 = "", s5 = "", s6 = "", s7 = "", s8 = "", s9 = "", s10 = "", s11 = "", s12 = "", s13 = "", s14 = "", s15 = "", s16 = "", s17 = "", s18 = "", s19 = "", s20 = "", s21 = "", s22 = "", s23 = "", s24 = "", s25 = "", s26 = "", s27 = "", s28 = "", s29 = "", s30 = "", s31 = "", s32 = "", s33 = "", s34 = "", s35 = "", s36 = "", s37 = "", s38 = "", s39 = "", s40 = "", s41 = "", s42 = "", s43 = "", s44 = "", s45 = "", s46 = "", s47 = "", s48 = "", s49 = "", s50 = "", s51 = "", s52 = "", s53 = "", s54 = "", s55 = "", s56 = "", s57 = "", s58 = "", s59 = "", s60 = "", s61 = "", s62 = "", s63 = "", s64 = "", s65 = "", s66 = "", s67 = "", s68 = "", s69 = "", s70 = "", s71 = "", s72 = "", s73 = "", s74 = "", s75 = "", s76 = "", s77 = "", s78 = "", s79 = "", s80 = "", s81 = "", s82 = "", s83 = "", s84 = "", s85 = "", s86 = "", s87 = "", s88 = "", s89 = "", s90 = "", s91 = "", s92 = "", s93 = "", s94 = "", s95 = "", s96 = "", s97 = "", s98 = "", s99 = "", s100 = "", s101 = "", s102 = "", s103 = "", s104 = "", s105 = "", s106 = "", s107 = "", s108 = "", s109 = "", s110 = "", s111 = "", s112 = "", s113 = "", s114 = "", s115 = "", s116 = "", s117 = "", s118 = "", s119 = "", s120 = "", s121 = "", s122 = "", s123 = "", s124 = "", s125 = "", s126 = "", s127 = "", s128 = "", s129 = "", s130 = "", s131 = "", s132 = "", s133 = "", s134 = "", s135 = "", s136 = "", s137 = "", s138 = "", s139 = "", s140 = "", s141 = "", s142 = "", s143 = "", s144 = "", s145 = "", s146 = "", s147 = "", s148 = "", s149 = "", s150 = "", s151 = "", s152 = "", s153 = "", s154 = "", s155 = "", s156 = "", s157 = "", s158 = "", s159 = "", s160 = "", s161 = "", s162 = "", s163 = "", s164 = "", s165 = "", s166 = "", s167 = "", s168 = "", s169 = "", s170 = "", s171 = "", s172 = "", s173 = "", s174 = "", s175 = "", s176 = "", s177 = "", s178 = "", s179 = "", s180 = "", s181 = "", s182 = "", s183 = "", s184 = "", s185 = "", s186 = "", s187 = "", s188 = "", s189 = "", s190 = "", s191 = "", s192 = "", s193 = "", s194 = "", s195 = "", s196 = "", s197 = "", s198 = "", s199 = "", s200 = "", s201 = "", s202 = "", s203 = "", s204 = "", s205 = "", s206 = "", s207 = "", s208 = "", s209 = "", s210 = "", s211 = "", s212 = "", s213 = "", s214 = "", s215 = "", s216 = "", s217 = "", s218 = "", s219 = "", s220 = "", s221 = "", s222 = "", s223 = "", s224 = "", s225 = "", s226 = "", s227 = "", s228 = "", s229 = "", s230 = "", s231 = "", s232 = "", s233 = "", s234 = "", s235 = "", s236 = "", s237 = "", s238 = "", s239 = "", s240 = "", s241 = "", s242 = "", s243 = "", s244 = "", s245 = "", s246 = "", s247 = "", s248 = "", s249 = "", s250 = "", s251 = "", s252 = "", s253 = "", s254 = "", s255 = "", s256 = "", s257 = "", s258 = "", s259 = "", s260 = "", s261 = "", s262 = "", s263 = "", s264 = "", s265 = "", s266 = "", s267 = "", s268 = "", s269 = "", s270 = "", s271 = "", s272 = "", s273 = "", s274 = "", s275 = "", s276 = "", s277 = "", s278 = "", s279 = "", s280 = "", s281 = "", s282 = "", s283 = "", s284 = "", s285 = "", s286 = "", s287 = "", s288 = "", s289 = "", s290 = "", s291 = "", s292 = "", s293 = "", s294 = "", s295 = "", s296 = "", s297 = "", s298 = "", s299 = "", s300 = "", s301 = "", s302 = "", s303 = "", s304 = "", s305 = "", s306 = "", s307 = "", s308 = "", s309 = "", s310 = "", s311 = "", s312 = "", s313 = "", s314 = "", s315 = "", s316 = "", s317 = "", s318 = "", s319 = "", s320 = "", s321 = "", s322 = "", s323 = "", s324 = "", s325 = "", s326 = "", s327 = "", s328 = "", s329 = "", s330 = "", s331 = "", s332 = "", s333 = "", s334 = "", s335 = "", s336 = "", s337 = "", s338 = "", s339 = "", s340 = "", s341 = "", s342 = "", s343 = "", s344 = "", s345 = "", s346 = "", s347 = "", s348 = "", s349 = "", s350 = "", s351 = "", s352 = "", s353 = "", s354 = "", s355 = "", s356 = "", s357 = "", s358 = "", s359 = "", s360 = "", s361 = "", s362 = "", s363 = "", s364 = "", s365 = "", s366 = "", s367 = "", s368 = "", s369 = "", s370 = "", s371 = "", s372 = "", s373 = "", s374 = "", s375 = "", s376 = "", s377 = "", s378 = "", s379 = "", s380 = "", s381 = "", s382 = "", s383 = "", s384 = "", s385 = "", s386 = "", s387 = "", s388 = "", s389 = "", s390 = "", s391 = "", s392 = "", s393 = "", s394 = "", s395 = "", s396 = "", s397 = "", s398 = "", s399 = "", s400 = "", s401 = "", s402 = "", s403 = "", s404 = "", s405 = "", s406 = "", s407 = "", s408 = "", s409 = "", s410 = "", s411 = "", s412 = "", s413 = "", s414 = "", s415 = "", s416 = "", s417 = "", s418 = "", s419 = "", s420 = "", s421 = "", s422 = "", s423 = "", s424 = "", s425 = "", s426 = "", s427 = "", s428 = "", s429 = "", s430 = "", s431 = "", s432 = "", s433 = "", s434 = "", s435 = "", s436 = "", s437 = "", s438 = "", s439 = "", s440 = "", s441 = "", s442 = "", s443 = "", s444 = "", s445 = "", s446 = "", s447 = "", s448 = "", s449 = "", s450 = "", s451 = "", s452 = "", s453 = "", s454 = "", s455 = "", s456 = "", s457 = "", s458 = "", s459 = "", s460 = "", s461 = "", s462 = "", s463 = "", s464 = "", s465 = "", s466 = "", s467 = "", s468 = "", s469 = "", s470 = "", s471 = "", s472 = "", s473 = "", s474 = "", s475 = "", s476 = "", s477 = "", s478 = "", s479 = "", s480 = "", s481 = "", s482 = "", s483 = "", s484 = "", s485 = "", s486 = "", s487 = "", s488 = "", s489 = "", s490 = "", s491 = "", s492 = "", s493 = "", s494 = "", s495 = "", s496 = "", s497 = "", s498 = "", s499 = "", s500 = "", s501 = "", s502 = "", s503 = "", s504 = "", s505 = "", s506 = "", s507 = "", s508 = "", s509 = "", s510 = "", s511 = "", s512 = "", s513 = "", s514 = "", s515 = "", s516 = "", s517 = "", s518 = "", s519 = "", s520 = "", s521 = "", s522 = "", s523 = "", s524 = "", s525 = "", s526 = "", s527 = "", s528 = "", s529 = "", s530 = "", s531 = "", s532 = "", s533 = "", s534 = "", s535 = "", s536 = "", s537 = "", s538 = "", s539 = "", s540 = "", s541 = "", s542 = "", s543 = "", s544 = "", s545 = "", s546 = "", s547 = "", s548 = "", s549 = "", s550 = "", s551 = "", s552 = "", s553 = "", s554 = "", s555 = "", s556 = "", s557 = "", s558 = "", s559 = "", s560 = "", s561 = "", s562 = "", s563 = "", s564 = "", s565 = "", s566 = "", s567 = "", s568 = "", s569 = "", s570 = "", s571 = "", s572 = "", s573 = "", s574 = "", s575 = "", s576 = "", s577 = "", s578 = "", s579 = "", s580 = "", s581 = "", s582 = "", s583 = "", s584 = "", s585 = "", s586 = "", s587 = "", s588 = "", s589 = "", s590 = "", s591 = "", s592 = "", s593 = "", s594 = "", s595 = "", s596 = "", s597 = "", s598 = "", s599 = "", s600 = "", s601 = "", s602 = "", s603 = "", s604 = "", s605 = "", s606 = "", s607 = "", s608 = "", s609 = "", s610 = "", s611 = "", s612 = "", s613 = "", s614 = "", s615 = "", s616 = "", s617 = "", s618 = "", s619 = "", s620 = "", s621 = "", s622 = "", s623 = "", s624 = "", s625 = "", s626 = "", s627 = "", s628 = "", s629 = "", s630 = "", s631 = "", s632 = "", s633 = "", s634 = "", s635 = "", s636 = "", s637 = "", s638 = "", s639 = "", s640 = "", s641 = "", s642 = "", s643 = "", s644 = "", s645 = "", s646 = "", s647 = "", s648 = "", s649 = "", s650 = "", s651 = "", s652 = "", s653 = "", s654 = "", s655 = "", s656 = "", s657 = "", s658 = "", s659 = "", s660 = "", s661 = "", s662 = "", s663 = "", s664 = "", s665 = "", s666 = "", s667 = "", s668 = "", s669 = "", s670 = "", s671 = "", s672 = "", s673 = "", s674 = "", s675 = "", s676 = "", s677 = "", s678 = "", s679 = "", s680 = "", s681 = "", s682 = "", s683 = "", s684 = "", s685 = "", s686 = "", s687 = "", s688 = "", s689 = "", s690 = "", s691 = "", s692 = "", s693 = "", s694 = "", s695 = "", s696 = "", s697 = "", s698 = "", s699 = "", s700 = "", s701 = "", s702 = "", s703 = "", s704 = "", s705 = "", s706 = "", s707 = "", s708 = "", s709 = "", s710 = "", s711 = "", s712 = "", s713 = "", s714 = "", s715 = "", s716 = "", s717 = "", s718 = "", s719 = "", s720 = "", s721 = "", s722 = "", s723 = "", s724 = "", s725 = "", s726 = "", s727 = "", s728 = "", s729 = "", s730 = "", s731 = "", s732 = "", s733 = "", s734 = "", s735 = "", s736 = "", s737 = "", s738 = "", s739 = "", s740 = "", s741 = "", s742 = "", s743 = "", s744 = "", s745 = "", s746 = "", s747 = "", s748 = "", s749 = "", s750 = "", s751 = "", s752 = "", s753 = "", s754 = "", s755 = "", s756 = "", s757 = "", s758 = "", s759 = "", s760 = "", s761 = "", s762 = "", s763 = "", s764 = "", s765 = "", s766 = "", s767 = "", s768 = "", s769 = "", s770 = "", s771 = "", s772 = "", s773 = "", s774 = "", s775 = "", s776 = "", s777 = "", s778 = "", s779 = "", s780 = "", s781 = "", s782 = "", s783 = "", s784 = "", s785 = "", s786 = "", s787 = "", s788 = "", s789 = "", s790 = "", s791 = "", s792 = "", s793 = "", s794 = "", s795 = "", s796 = "", s797 = "", s798 = "", s799 = "", s800 = "", s801 = "", s802 = "", s803 = "", s804 = "", s805 = "", s806 = "", s807 = "", s808 = "", s809 = "", s810 = "", s811 = "", s812 = "", s813 = "", s814 = "", s815 = "", s816 = "", s817 = "", s818 = "", s819 = "", s820 = "", s821 = "", s822 = "", s823 = "", s824 = "", s825 = "", s826 = "", s827 = "", s828 = "", s829 = "", s830 = "", s831 = "", s832 = "", s833 = "", s834 = "", s835 = "", s836 = "", s837 = "", s838 = "", s839 = "", s840 = "", s841 = "", s842 = "", s843 = "", s844 = "", s845 = "", s846 = "", s847 = "", s848 = "", s849 = "", s850 = "", s851 = "", s852 = "", s853 = "", s854 = "", s855 = "", s856 = "", s857 = "", s858 = "", s859 = "", s860 = "", s861 = "", s862 = "", s863 = "", s864 = "", s865 = "", s866 = "", s867 = "", s868 = "", s869 = "", s870 = "", s871 = "", s872 = "", s873 = "", s874 = "", s875 = "", s876 = "", s877 = "", s878 = "", s879 = "", s880 = "", s881 = "", s882 = "", s883 = "", s884 = "", s885 = "", s886 = "", s887 = "", s888 = "", s889 = "", s890 = "", s891 = "", s892 = "", s893 = "", s894 = "", s895 = "", s896 = "", s897 = "", s898 = "", s899 = "", s900 = "", s901 = "", s902 = "", s903 = "", s904 = "", s905 = "", s906 = "", s907 = "", s908 = "", s909 = "", s910 = "", s911 = "", s912 = "", s913 = "", s914 = "", s915 = "", s916 = "", s917 = "", s918 = "", s919 = "", s920 = "", s921 = "", s922 = "", s923 = "", s924 = "", s925 = "", s926 = "", s927 = "", s928 = "", s929 = "", s930 = "", s931 = "", s932 = "", s933 = "", s934 = "", s935 = "", s936 = "", s937 = "", s938 = "", s939 = "", s940 = "", s941 = "", s942 = "", s943 = "", s944 = "", s945 = "", s946 = "", s947 = "", s948 = "", s949 = "", s950 = "", s951 = "", s952 = "", s953 = "", s954 = "", s955 = "", s956 = "", s957 = "", s958 = "", s959 = "", s960 = "", s961 = "", s962 = "", s963 = "", s964 = "", s965 = "", s966 = "", s967 = "", s968 = "", s969 = "", s970 = "", s971 = "", s972 = "", s973 = "", s974 = "", s975 = "", s976 = "", s977 = "", s978 = "", s979 = "", s980 = "", s981 = "", s982 = "", s983 = "", s984 = "", s985 = "", s986 = "", s987 = "", s988 = "", s989 = "", s990 = "", s991 = "", s992 = "", s993 = "", s994 = "", s995 = "", s996 = "", s997 = "", s998 = "", s999 = "", s1000 = "", s1001 = "", s1002 = "", s1003 = "", s1004 = "", s1005 = "", s1006 = "", s1007 = "", s1008 = "", s1009 = "", s1010 = "", s1011 = "", s1012 = "", s1013 = "", s1014 = "", s1015 = "", s1016 = "", s1017 = "", s1018 = "", s1019 = "", s1020 = "", s1021 = "", s1022 = "", s1023 = "", s1024 = "", s1025 = "", s1026 = "", s1027 = "", s1028 = "", s1029 = "", s1030 = "", s1031 = "", s1032 = "", s1033 = "", s1034 = "", s1035 = "", s1036 = "", s1037 = "", s1038 = "", s1039 = "", s1040 = "", s1041 = "", s1042 = "", s1043 = "", s1044 = "", s1045 = "", s1046 = "", s1047 = "", s1048 = "", s1049 = "", s1050 = "", s1051 = "", s1052 = "", s1053 = "", s1054 = "", s1055 = "", s1056 = "", s1057 = "", s1058 = "", s1059 = "", s1060 = "", s1061 = "", s1062 = "", s1063 = "", s1064 = "", s1065 = "", s1066 = "", s1067 = "", s1068 = "", s1069 = "", s1070 = "", s1071 = "", s1072 = "", s1073 = "", s1074 = "", s1075 = "", s1076 = "", s1077 = "", s1078 = "", s1079 = "", s1080 = "", s1081 = "", s1082 = "", s1083 = "", s1084 = "", s1085 = "", s1086 = "", s1087 = "", s1088 = "", s1089 = "", s1090 = "", s1091 = "", s1092 = "", s1093 = "", s1094 = "", s1095 = "", s1096 = "", s1097 = "", s1098 = "", s1099 = "", s1100 = "", s1101 = "", s1102 = "", s1103 = "", s1104 = "", s1105 = "", s1106 = "", s1107 = "", s1108 = "", s1109 = "", s1110 = "", s1111 = "", s1112 = "", s1113 = "", s1114 = "", s1115 = "", s1116 = "", s1117 = "", s1118 = "", s1119 = "", s1120 = "", s1121 = "", s1122 = "", s1123 = "", s1124 = "", s1125 = "", s1126 = "", s1127 = "", s1128 = "", s1129 = "", s1130 = "", s1131 = "", s1132 = "", s1133 = "", s1134 = "", s1135 = "", s1136 = "", s1137 = "", s1138 = "", s1139 = "", s1140 = "", s1141 = "", s1142 = "", s1143 = "", s1144 = "", s1145 = "", s1146 = "", s1147 = "", s1148 = "", s1149 = "", s1150 = "", s1151 = "", s1152 = "", s1153 = "", s1154 = "", s1155 = "", s1156 = "", s1157 = "", s1158 = "", s1159 = "", s1160 = "", s1161 = "", s1162 = "", s1163 = "", s1164 = "", s1165 = "", s1166 = "", s1167 = "", s1168 = "", s1169 = "", s1170 = "", s1171 = "", s1172 = "", s1173 = "", s1174 = "", s1175 = "", s1176 = "", s1177 = "", s1178 = "", s1179 = "", s1180 = "", s1181 = "", s1182 = "", s1183 = "", s1184 = "", s1185 = "", s1186 = "", s1187 = "", s1188 = "", s1189 = "", s1190 = "", s1191 = "", s1192 = "", s1193 = "", s1194 = "", s1195 = "", s1196 = "", s1197 = "", s1198 = "", s1199 = "", s1200 = "", s1201 = "", s1202 = "", s1203 = "", s1204 = "", s1205 = "", s1206 = "", s1207 = "", s1208 = "", s1209 = "", s1210 = "", s1211 = "", s1212 = "", s1213 = "", s1214 = "", s1215 = "", s1216 = "", s1217 = "", s1218 = "", s1219 = "", s1220 = "", s1221 = "", s1222 = "", s1223 = "", s1224 = "", s1225 = "", s1226 = "", s1227 = "", s1228 = "", s1229 = "", s1230 = "", s1231 = "", s1232 = "", s1233 = "", s1234 = "", s1235 = "", s1236 = "", s1237 = "", s1238 = "", s1239 = "", s1240 = "", s1241 = "", s1242 = "", s1243 = "", s1244 = "", s1245 = "", s1246 = "", s1247 = "", s1248 = "", s1249 = "", s1250 = "", s1251 = "", s1252 = "", s1253 = "", s1254 = "", s1255 = "", s1256 = "", s1257 = "", s1258 = "", s1259 = "", s1260 = "", s1261 = "", s1262 = "", s1263 = "", s1264 = "", s1265 = "", s1266 = "", s1267 = "", s1268 = "", s1269 = "", s1270 = "", s1271 = "", s1272 = "", s1273 = "", s1274 = "", s1275 = "", s1276 = "", s1277 = "", s1278 = "", s1279 = "", s1280 = "", s1281 = "", s1282 = "", s1283 = "", s1284 = "", s1285 = "", s1286 = "", s1287 = "", s1288 = "", s1289 = "", s1290 = "", s1291 = "", s1292 = "", s1293 = "", s1294 = "", s1295 = "", s1296 = "", s1297 = "", s1298 = "", s1299 = "", s1300 = "", s1301 = "", s1302 = "", s1303 = "", s1304 = "", s1305 = "", s1306 = "", s1307 = "", s1308 = "", s1309 = "", s1310 = "", s1311 = "", s1312 = "", s1313 = "", s1314 = "", s1315 = "", s1316 = "", s1317 = "", s1318 = "", s1319 = "", s1320 = "", s1321 = "", s1322 = "", s1323 = "", s1324 = "", s1325 = "", s1326 = "", s1327 = "", s1328 = "", s1329 = "", s1330 = "", s1331 = "", s1332 = "", s1333 = "", s1334 = "", s1335 = "", s1336 = "", s1337 = "", s1338 = "", s1339 = "", s1340 = "", s1341 = "", s1342 = "", s1343 = "", s1344 = "", s1345 = "", s1346 = "", s1347 = "", s1348 = "", s1349 = "", s1350 = "", s1351 = "", s1352 = "", s1353 = "", s1354 = "", s1355 = "", s1356 = "", s1357 = "", s1358 = "", s1359 = "", s1360 = "", s1361 = "", s1362 = "", s1363 = "", s1364 = "", s1365 = "", s1366 = "", s1367 = "", s1368 = "", s1369 = "", s1370 = "", s1371 = "", s1372 = "", s1373 = "", s1374 = "", s1375 = "", s1376 = "", s1377 = "", s1378 = "", s1379 = "", s1380 = "", s1381 = "", s1382 = "", s1383 = "", s1384 = "", s1385 = "", s1386 = "", s1387 = "", s1388 = "", s1389 = "", s1390 = "", s1391 = "", s1392 = "", s1393 = "", s1394 = "", s1395 = "", s1396 = "", s1397 = "", s1398 = "", s1399 = "", s1400 = "", s1401 = "", s1402 = "", s1403 = "", s1404 = "", s1405 = "", s1406 = "", s1407 = "", s1408 = "", s1409 = "", s1410 = "", s1411 = "", s1412 = "", s1413 = "", s1414 = "", s1415 = "", s1416 = "", s1417 = "", s1418 = "", s1419 = "", s1420 = "", s1421 = "", s1422 = "", s1423 = "", s1424 = "", s1425 = "", s1426 = "", s1427 = "", s1428 = "", s1429 = "", s1430 = "", s1431 = "", s1432 = "", s1433 = "", s1434 = "", s1435 = "", s1436 = "", s1437 = "", s1438 = "", s1439 = "", s1440 = "", s1441 = "", s1442 = "", s1443 = "", s1444 = "", s1445 = "", s1446 = "", s1447 = "", s1448 = "", s1449 = "", s1450 = "", s1451 = "", s1452 = "", s1453 = "", s1454 = "", s1455 = "", s1456 = "", s1457 = "", s1458 = "", s1459 = "", s1460 = "", s1461 = "", s1462 = "", s1463 = "", s1464 = "", s1465 = "", s1466 = "", s1467 = "", s1468 = "", s1469 = "", s1470 = "", s1471 = "", s1472 = "", s1473 = "", s1474 = "", s1475 = "", s1476 = "", s1477 = "", s1478 = "", s1479 = "", s1480 = "", s1481 = "", s1482 = "", s1483 = "", s1484 = "", s1485 = "", s1486 = "", s1487 = "", s1488 = "", s1489 = "", s1490 = "", s1491 = "", s1492 = "", s1493 = "", s1494 = "", s1495 = "", s1496 = "", s1497 = "", s1498 = "", s1499 = "", s1500 = "", s1501 = "", s1502 = "", s1503 = "", s1504 = "", s1505 = "", s1506 = "", s1507 = "", s1508 = "", s1509 = "", s1510 = "", s1511 = "", s1512 = "", s1513 = "", s1514 = "", s1515 = "", s1516 = "", s1517 = "", s1518 = "", s1519 = "", s1520 = "", s1521 = "", s1522 = "", s1523 = "", s1524 = "", s1525 = "", s1526 = "", s1527 = "", s1528 = "", s1529 = "", s1530 = "", s1531 = "", s1532 = "", s1533 = "", s1534 = "", s1535 = "", s1536 = "", s1537 = "", s1538 = "", s1539 = "", s1540 = "", s1541 = "", s1542 = "", s1543 = "", s1544 = "", s1545 = "", s1546 = "", s1547 = "", s1548 = "", s1549 = "", s1550 = "", s1551 = "", s1552 = "", s1553 = "", s1554 = "", s1555 = "", s1556 = "", s1557 = "", s1558 = "", s1559 = "", s1560 = "", s1561 = "", s1562 = "", s1563 = "", s1564 = "", s1565 = "", s1566 = "", s1567 = "", s1568 = "", s1569 = "", s1570 = "", s1571 = "", s1572 = "", s1573 = "", s1574 = "", s1575 = "", s1576 = "", s1577 = "", s1578 = "", s1579 = "", s1580 = "", s1581 = "", s1582 = "", s1583 = "", s1584 = "", s1585 = "", s1586 = "", s1587 = "", s1588 = "", s1589 = "", s1590 = "", s1591 = "", s1592 = "", s1593 = "", s1594 = "", s1595 = "", s1596 = "", s1597 = "", s1598 = "", s1599 = "", s1600 = "", s1601 = "", s1602 = "", s1603 = "", s1604 = "", s1605 = "", s1606 = "", s1607 = "", s1608 = "", s1609 = "", s1610 = "", s1611 = "", s1612 = "", s1613 = "", s1614 = "", s1615 = "", s1616 = "", s1617 = "", s1618 = "", s1619 = "", s1620 = "", s1621 = "", s1622 = "", s1623 = "", s1624 = "", s1625 = "", s1626 = "", s1627 = "", s1628 = "", s1629 = "", s1630 = "", s1631 = "", s1632 = "", s1633 = "", s1634 = "", s1635 = "", s1636 = "", s1637 = "", s1638 = "", s1639 = "", s1640 = "", s1641 = "", s1642 = "", s1643 = "", s1644 = "", s1645 = "", s1646 = "", s1647 = "", s1648 = "", s1649 = "", s1650 = "", s1651 = "", s1652 = "", s1653 = "", s1654 = "", s1655 = "", s1656 = "", s1657 = "", s1658 = "", s1659 = "", s1660 = "", s1661 = "", s1662 = "", s1663 = "", s1664 = "", s1665 = "", s1666 = "", s1667 = "", s1668 = "", s1669 = "", s1670 = "", s1671 = "", s1672 = "", s1673 = "", s1674 = "", s1675 = "", s1676 = "", s1677 = "", s1678 = "", s1679 = "", s1680 = "", s1681 = "", s1682 = "", s1683 = "", s1684 = "", s1685 = "", s1686 = "", s1687 = "", s1688 = "", s1689 = "", s1690 = "", s1691 = "", s1692 = "", s1693 = "", s1694 = "", s1695 = "", s1696 = "", s1697 = "", s1698 = "", s1699 = "", s1700 = "", s1701 = "", s1702 = "", s1703 = "", s1704 = "", s1705 = "", s1706 = "", s1707 = "", s1708 = "", s1709 = "", s1710 = "", s1711 = "", s1712 = "", s1713 = "", s1714 = "", s1715 = "", s1716 = "", s1717 = "", s1718 = "", s1719 = "", s1720 = "", s1721 = "", s1722 = "", s1723 = "", s1724 = "", s1725 = "", s1726 = "", s1727 = "", s1728 = "", s1729 = "", s1730 = "", s1731 = "", s1732 = "", s1733 = "", s1734 = "", s1735 = "", s1736 = "", s1737 = "", s1738 = "", s1739 = "", s1740 = "", s1741 = "", s1742 = "", s1743 = "", s1744 = "", s1745 = "", s1746 = "", s1747 = "", s1748 = "", s1749 = "", s1750 = "", s1751 = "", s1752 = "", s1753 = "", s1754 = "", s1755 = "", s1756 = "", s1757 = "", s1758 = "", s1759 = "", s1760 = "", s1761 = "", s1762 = "", s1763 = "", s1764 = "", s1765 = "", s1766 = "", s1767 = "", s1768 = "", s1769 = "", s1770 = "", s1771 = "", s1772 = "", s1773 = "", s1774 = "", s1775 = "", s1776 = "", s1777 = "", s1778 = "", s1779 = "", s1780 = "", s1781 = "", s1782 = "", s1783 = "", s1784 = "", s1785 = "", s1786 = "", s1787 = "", s1788 = "", s1789 = "", s1790 = "", s1791 = "", s1792 = "", s1793 = "", s1794 = "", s1795 = "", s1796 = "", s1797 = "", s1798 = "", s1799 = "", s1800 = "", s1801 = "", s1802 = "", s1803 = "", s1804 = "", s1805 = "", s1806 = "", s1807 = "", s1808 = "", s1809 = "", s1810 = "", s1811 = "", s1812 = "", s1813 = "", s1814 = "", s1815 = "", s1816 = "", s1817 = "", s1818 = "", s1819 = "", s1820 = "", s1821 = "", s1822 = "", s1823 = "", s1824 = "", s1825 = "", s1826 = "", s1827 = "", s1828 = "", s1829 = "", s1830 = "", s1831 = "", s1832 = "", s1833 = "", s1834 = "", s1835 = "", s1836 = "", s1837 = "", s1838 = "", s1839 = "", s1840 = "", s1841 = "", s1842 = "", s1843 = "", s1844 = "", s1845 = "", s1846 = "", s1847 = "", s1848 = "", s1849 = "", s1850 = "", s1851 = "", s1852 = "", s1853 = "", s1854 = "", s1855 = "", s1856 = "", s1857 = "", s1858 = "", s1859 = "", s1860 = "", s1861 = "", s1862 = "", s1863 = "", s1864 = "", s1865 = "", s1866 = "", s1867 = "", s1868 = "", s1869 = "", s1870 = "", s1871 = "", s1872 = "", s1873 = "", s1874 = "", s1875 = "", s1876 = "", s1877 = "", s1878 = "", s1879 = "", s1880 = "", s1881 = "", s1882 = "", s1883 = "", s1884 = "", s1885 = "", s1886 = "", s1887 = "", s1888 = "", s1889 = "", s1890 = "", s1891 = "", s1892 = "", s1893 = "", s1894 = "", s1895 = "", s1896 = "", s1897 = "", s1898 = "", s1899 = "", s1900 = "", s1901 = "", s1902 = "", s1903 = "", s1904 = "", s1905 = "", s1906 = "", s1907 = "", s1908 = "", s1909 = "", s1910 = "", s1911 = "", s1912 = "", s1913 = "", s1914 = "", s1915 = "", s1916 = "", s1917 = "", s1918 = "", s1919 = "", s1920 = "", s1921 = "", s1922 = "", s1923 = "", s1924 = "", s1925 = "", s1926 = "", s1927 = "", s1928 = "", s1929 = "", s1930 = "", s1931 = "", s1932 = "", s1933 = "", s1934 = "", s1935 = "", s1936 = "", s1937 = "", s1938 = "", s1939 = "", s1940 = "", s1941 = "", s1942 = "", s1943 = "", s1944 = "", s1945 = "", s1946 = "", s1947 = "", s1948 = "", s1949 = "", s1950 = "", s1951 = "", s1952 = "", s1953 = "", s1954 = "", s1955 = "", s1956 = "", s1957 = "", s1958 = "", s1959 = "", s1960 = "", s1961 = "", s1962 = "", s1963 = "", s1964 = "", s1965 = "", s1966 = "", s1967 = "", s1968 = "", s1969 = "", s1970 = "", s1971 = "", s1972 = "", s1973 = "", s1974 = "", s1975 = "", s1976 = "", s1977 = "", s1978 = "", s1979 = "", s1980 = "", s1981 = "", s1982 = "", s1983 = "", s1984 = "", s1985 = "", s1986 = "", s1987 = "", s1988 = "", s1989 = "", s1990 = "", s1991 = "", s1992 = "", s1993 = "", s1994 = "", s1995 = "", s1996 = "", s1997 = "", s1998 = "", s1999 = "", s2000 = "", s2001 = "", s2002 = "", s2003 = "", s2004 = "", s2005 = "", s2006 = "", s2007 = "", s2008 = "", s2009 = "", s2010 = "", s2011 = "", s2012 = "", s2013 = "", s2014 = "", s2015 = "", s2016 = "", s2017 = "", s2018 = "", s2019 = "", s2020 = "", s2021 = "", s2022 = "", s2023 = "", s2024 = "", s2025 = "", s2026 = "", s2027 = "", s2028 = "", s2029 = "", s2030 = "", s2031 = "", s2032 = "", s2033 = "", s2034 = "", s2035 = "", s2036 = "", s2037 = "", s2038 = "", s2039 = "", s2040 = "", s2041 = "", s2042 = "", s2043 = "", s2044 = "", s2045 = "", s2046 = "", s2047 = "", s2048 = "", s2049 = "", s2050 = "", s2051 = "", s2052 = "", s2053 = "", s2054 = "", s2055 = "", s2056 = "", s2057 = "", s2058 = "", s2059 = "", s2060 = "", s2061 = "", s2062 = "", s2063 = "", s2064 = "", s2065 = "", s2066 = "", s2067 = "", s2068 = "", s2069 = "", s2070 = "", s2071 = "", s2072 = "", s2073 = "", s2074 = "", s2075 = "", s2076 = "", s2077 = "", s2078 = "", s2079 = "", s2080 = "", s2081 = "", s2082 = "", s2083 = "", s2084 = "", s2085 = "", s2086 = "", s2087 = "", s2088 = "", s2089 = "", s2090 = "", s2091 = "", s2092 = "", s2093 = "", s2094 = "", s2095 = "", s2096 = "", s2097 = "", s2098 = "", s2099 = "", s2100 = "", s2101 = "", s2102 = "", s2103 = "", s2104 = "", s2105 = "", s2106 = "", s2107 = "", s2108 = "", s2109 = "", s2110 = "", s2111 = "", s2112 = "", s2113 = "", s2114 = "", s2115 = "", s2116 = "", s2117 = "", s2118 = "", s2119 = "", s2120 = "", s2121 = "", s2122 = "", s2123 = "", s2124 = "", s2125 = "", s2126 = "", s2127 = "", s2128 = "", s2129 = "", s2130 = "", s2131 = "", s2132 = "", s2133 = "", s2134 = "", s2135 = "", s2136 = "", s2137 = "", s2138 = "", s2139 = "", s2140 = "", s2141 = "", s2142 = "", s2143 = "", s2144 = "", s2145 = "", s2146 = "", s2147 = "", s2148 = "", s2149 = "", s2150 = "", s2151 = "", s2152 = "", s2153 = "", s2154 = "", s2155 = "", s2156 = "", s2157 = "", s2158 = "", s2159 = "", s2160 = "", s2161 = "", s2162 = "", s2163 = "", s2164 = "", s2165 = "", s2166 = "", s2167 = "", s2168 = "", s2169 = "", s2170 = "", s2171 = "", s2172 = "", s2173 = "", s2174 = "", s2175 = "", s2176 = "", s2177 = "", s2178 = "", s2179 = "", s2180 = "", s2181 = "", s2182 = "", s2183 = "", s2184 = "", s2185 = "", s2186 = "", s2187 = "", s2188 = "", s2189 = "", s2190 = "", s2191 = "", s2192 = "", s2193 = "", s2194 = "", s2195 = "", s2196 = "", s2197 = "", s2198 = "", s2199 = "", s2200 = "", s2201 = "", s2202 = "", s2203 = "", s2204 = "", s2205 = "", s2206 = "", s2207 = "", s2208 = "", s2209 = "", s2210 = "", s2211 = "", s2212 = "", s2213 = "", s2214 = "", s2215 = "", s2216 = "", s2217 = "", s2218 = "", s2219 = "", s2220 = "", s2221 = "", s2222 = "", s2223 = "", s2224 = "", s2225 = "", s2226 = "", s2227 = "", s2228 = "", s2229 = "", s2230 = "", s2231 = "", s2232 = "", s2233 = "", s2234 = "", s2235 = "", s2236 = "", s2237 = "", s2238 = "", s2239 = "", s2240 = "", s2241 = "", s2242 = "", s2243 = "", s2244 = "", s2245 = "", s2246 = "", s2247 = "", s2248 = "", s2249 = "", s2250 = "", s2251 = "", s2252 = "", s2253 = "", s2254 = "", s2255 = "", s2256 = "", s2257 = "", s2258 = "", s2259 = "", s2260 = "", s2261 = "", s2262 = "", s2263 = "", s2264 = "", s2265 = "", s2266 = "", s2267 = "", s2268 = "", s2269 = "", s2270 = "", s2271 = "", s2272 = "", s2273 = "", s2274 = "", s2275 = "", s2276 = "", s2277 = "", s2278 = "", s2279 = "", s2280 = "", s2281 = "", s2282 = "", s2283 = "", s2284 = "", s2285 = "", s2286 = "", s2287 = "", s2288 = "", s2289 = "", s2290 = "", s2291 = "", s2292 = "", s2293 = "", s2294 = "", s2295 = "", s2296 = "", s2297 = "", s2298 = "", s2299 = "", s2300 = "", s2301 = "", s2302 = "", s2303 = "", s2304 = "", s2305 = "", s2306 = "", s2307 = "", s2308 = "", s2309 = "", s2310 = "", s2311 = "", s2312 = "", s2313 = "", s2314 = "", s2315 = "", s2316 = "", s2317 = "", s2318 = "", s2319 = "", s2320 = "", s2321 = "", s2322 = "", s2323 = "", s2324 = "", s2325 = "", s2326 = "", s2327 = "", s2328 = "", s2329 = "", s2330 = "", s2331 = "", s2332 = "", s2333 = "", s2334 = "", s2335 = "", s2336 = "", s2337 = "", s2338 = "", s2339 = "", s2340 = "", s2341 = "", s2342 = "", s2343 = "", s2344 = "", s2345 = "", s2346 = "", s2347 = "", s2348 = "", s2349 = "", s2350 = "", s2351 = "", s2352 = "", s2353 = "", s2354 = "", s2355 = "", s2356 = "", s2357 = "", s2358 = "", s2359 = "", s2360 = "", s2361 = "", s2362 = "", s2363 = "", s2364 = "", s2365 = "", s2366 = "", s2367 = "", s2368 = "", s2369 = "", s2370 = "", s2371 = "", s2372 = "", s2373 = "", s2374 = "", s2375 = "", s2376 = "", s2377 = "", s2378 = "", s2379 = "", s2380 = "", s2381 = "", s2382 = "", s2383 = "", s2384 = "", s2385 = "", s2386 = "", s2387 = "", s2388 = "", s2389 = "", s2390 = "", s2391 = "", s2392 = "", s2393 = "", s2394 = "", s2395 = "", s2396 = "", s2397 = "", s2398 = "", s2399 = "", s2400 = "", s2401 = "", s2402 = "", s2403 = "", s2404 = "", s2405 = "", s2406 = "", s2407 = "", s2408 = "", s2409 = "", s2410 = "", s2411 = "", s2412 = "", s2413 = "", s2414 = "", s2415 = "", s2416 = "", s2417 = "", s2418 = "", s2419 = "", s2420 = "", s2421 = "", s2422 = "", s2423 = "", s2424 = "", s2425 = "", s2426 = "", s2427 = "", s2428 = "", s2429 = "", s2430 = "", s2431 = "", s2432 = "", s2433 = "", s2434 = "", s2435 = "", s2436 = "", s2437 = "", s2438 = "", s2439 = "", s2440 = "", s2441 = "", s2442 = "", s2443 = "", s2444 = "", s2445 = "", s2446 = "", s2447 = "", s2448 = "", s2449 = "", s2450 = "", s2451 = "", s2452 = "", s2453 = "", s2454 = "", s2455 = "", s2456 = "", s2457 = "", s2458 = "", s2459 = "", s2460 = "", s2461 = "", s2462 = "", s2463 = "", s2464 = "", s2465 = "", s2466 = "", s2467 = "", s2468 = "", s2469 = "", s2470 = "", s2471 = "", s2472 = "", s2473 = "", s2474 = "", s2475 = "", s2476 = "", s2477 = "", s2478 = "", s2479 = "", s2480 = "", s2481 = "", s2482 = "", s2483 = "", s2484 = "", s2485 = "", s2486 = "", s2487 = "", s2488 = "", s2489 = "", s2490 = "", s2491 = "", s2492 = "", s2493 = "", s2494 = "", s2495 = "", s2496 = "", s2497 = "", s2498 = "", s2499 = "", s2500 = "", s2501 = "", s2502 = "", s2503 = "", s2504 = "", s2505 = "", s2506 = "", s2507 = "", s2508 = "", s2509 = "", s2510 = "", s2511 = "", s2512 = "", s2513 = "", s2514 = "", s2515 = "", s2516 = "", s2517 = "", s2518 = "", s2519 = "", s2520 = "", s2521 = "", s2522 = "", s2523 = "", s2524 = "", s2525 = "", s2526 = "", s2527 = "", s2528 = "", s2529 = "", s2530 = "", s2531 = "", s2532 = "", s2533 = "", s2534 = "", s2535 = "", s2536 = "", s2537 = "", s2538 = "", s2539 = "", s2540 = "", s2541 = "", s2542 = "", s2543 = "", s2544 = "", s2545 = "", s2546 = "", s2547 = "", s2548 = "", s2549 = "", s2550 = "", s2551 = "", s2552 = "", s2553 = "", s2554 = "", s2555 = "", s2556 = "", s2557 = "", s2558 = "", s2559 = "", s2560 = "", s2561 = "", s2562 = "", s2563 = "", s2564 = "", s2565 = "", s2566 = "", s2567 = "", s2568 = "", s2569 = "", s2570 = "", s2571 = "", s2572 = "", s2573 = "", s2574 = "", s2575 = "", s2576 = "", s2577 = "", s2578 = "", s2579 = "", s2580 = "", s2581 = "", s2582 = "", s2583 = "", s2584 = "", s2585 = "", s2586 = "", s2587 = "", s2588 = "", s2589 = "", s2590 = "", s2591 = "", s2592 = "", s2593 = "", s2594 = "", s2595 = "", s2596 = "", s2597 = "", s2598 = "", s2599 = "", s2600 = "", s2601 = "", s2602 = "", s2603 = "", s2604 = "", s2605 = "", s2606 = "", s2607 = "", s2608 = "", s2609 = "", s2610 = "", s2611 = "", s2612 = "", s2613 = "", s2614 = "", s2615 = "", s2616 = "", s2617 = "", s2618 = "", s2619 = "", s2620 = "", s2621 = "", s2622 = "", s2623 = "", s2624 = "", s2625 = "", s2626 = "", s2627 = "", s2628 = "", s2629 = "", s2630 = "", s2631 = "", s2632 = "", s2633 = "", s2634 = "", s2635 = "", s2636 = "", s2637 = "", s2638 = "", s2639 = "", s2640 = "", s2641 = "", s2642 = "", s2643 = "", s2644 = "", s2645 = "", s2646 = "", s2647 = "", s2648 = "", s2649 = "", s2650 = "", s2651 = "", s2652 = "", s2653 = "", s2654 = "", s2655 = "", s2656 = "", s2657 = "", s2658 = "", s2659 = "", s2660 = "", s2661 = "", s2662 = "", s2663 = "", s2664 = "", s2665 = "", s2666 = "", s2667 = "", s2668 = "", s2669 = "", s2670 = "", s2671 = "", s2672 = "", s2673 = "", s2674 = "", s2675 = "", s2676 = "", s2677 = "", s2678 = "", s2679 = "", s2680 = "", s2681 = "", s2682 = "", s2683 = "", s2684 = "", s2685 = "", s2686 = "", s2687 = "", s2688 = "", s2689 = "", s2690 = "", s2691 = "", s2692 = "", s2693 = "", s2694 = "", s2695 = "", s2696 = "", s2697 = "", s2698 = "", s2699 = "", s2700 = "", s2701 = "", s2702 = "", s2703 = "", s2704 = "", s2705 = "", s2706 = "", s2707 = "", s2708 = "", s2709 = "", s2710 = "", s2711 = "", s2712 = "", s2713 = "", s2714 = "", s2715 = "", s2716 = "", s2717 = "", s2718 = "", s2719 = "", s2720 = "", s2721 = "", s2722 = "", s2723 = "", s2724 = "", s2725 = "", s2726 = "", s2727 = "", s2728 = "", s2729 = "", s2730 = "", s2731 = "", s2732 = "", s2733 = "", s2734 = "", s2735 = "", s2736 = "", s2737 = "", s2738 = "", s2739 = "", s2740 = "", s2741 = "", s2742 = "", s2743 = "", s2744 = "", s2745 = "", s2746 = "", s2747 = "", s2748 = "", s2749 = "", s2750 = "", s2751 = "", s2752 = "", s2753 = "", s2754 = "", s2755 = "", s2756 = "", s2757 = "", s2758 = "", s2759 = "", s2760 = "", s2761 = "", s2762 = "", s2763 = "", s2764 = "", s2765 = "", s2766 = "", s2767 = "", s2768 = "", s2769 = "", s2770 = "", s2771 = "", s2772 = "", s2773 = "", s2774 = "", s2775 = "", s2776 = "", s2777 = "", s2778 = "", s2779 = "", s2780 = "", s2781 = "", s2782 = "", s2783 = "", s2784 = "", s2785 = "", s2786 = "", s2787 = "", s2788 = "", s2789 = "", s2790 = "", s2791 = "", s2792 = "", s2793 = "", s2794 = "", s2795 = "", s2796 = "", s2797 = "", s2798 = "", s2799 = "", s2800 = "", s2801 = "", s2802 = "", s2803 = "", s2804 = "", s2805 = "", s2806 = "", s2807 = "", s2808 = "", s2809 = "", s2810 = "", s2811 = "", s2812 = "", s2813 = "", s2814 = "", s2815 = "", s2816 = "", s2817 = "", s2818 = "", s2819 = "", s2820 = "", s2821 = "", s2822 = "", s2823 = "", s2824 = "", s2825 = "", s2826 = "", s2827 = "", s2828 = "", s2829 = "", s2830 = "", s2831 = "", s2832 = "", s2833 = "", s2834 = "", s2835 = "", s2836 = "", s2837 = "", s2838 = "", s2839 = "", s2840 = "", s2841 = "", s2842 = "", s2843 = "", s2844 = "", s2845 = "", s2846 = "", s2847 = "", s2848 = "", s2849 = "", s2850 = "", s2851 = "", s2852 = "", s2853 = "", s2854 = "", s2855 = "", s2856 = "", s2857 = "", s2858 = "", s2859 = "", s2860 = "", s2861 = "", s2862 = "", s2863 = "", s2864 = "", s2865 = "", s2866 = "", s2867 = "", s2868 = "", s2869 = "", s2870 = "", s2871 = "", s2872 = "", s2873 = "", s2874 = "", s2875 = "", s2876 = "", s2877 = "", s2878 = "", s2879 = "", s2880 = "", s2881 = "", s2882 = "", s2883 = "", s2884 = "", s2885 = "", s2886 = "", s2887 = "", s2888 = "", s2889 = "", s2890 = "", s2891 = "", s2892 = "", s2893 = "", s2894 = "", s2895 = "", s2896 = "", s2897 = "", s2898 = "", s2899 = "", s2900 = "", s2901 = "", s2902 = "", s2903 = "", s2904 = "", s2905 = "", s2906 = "", s2907 = "", s2908 = "", s2909 = "", s2910 = "", s2911 = "", s2912 = "", s2913 = "", s2914 = "", s2915 = "", s2916 = "", s2917 = "", s2918 = "", s2919 = "", s2920 = "", s2921 = "", s2922 = "", s2923 = "", s2924 = "", s2925 = "", s2926 = "", s2927 = "", s2928 = "", s2929 = "", s2930 = "", s2931 = "", s2932 = "", s2933 = "", s2934 = "", s2935 = "", s2936 = "", s2937 = "", s2938 = "", s2939 = "", s2940 = "", s2941 = "", s2942 = "", s2943 = "", s2944 = "", s2945 = "", s2946 = "", s2947 = "", s2948 = "", s2949 = "", s2950 = "", s2951 = "", s2952 = "", s2953 = "", s2954 = "", s2955 = "", s2956 = "", s2957 = "", s2958 = "", s2959 = "", s2960 = "", s2961 = "", s2962 = "", s2963 = "", s2964 = "", s2965 = "", s2966 = "", s2967 = "", s2968 = "", s2969 = "", s2970 = "", s2971 = "", s2972 = "", s2973 = "", s2974 = "", s2975 = "", s2976 = "", s2977 = "", s2978 = "", s2979 = "", s2980 = "", s2981 = "", s2982 = "", s2983 = "", s2984 = "", s2985 = "", s2986 = "", s2987 = "", s2988 = "", s2989 = "", s2990 = "", s2991 = "", s2992 = "", s2993 = "", s2994 = "", s2995 = "", s2996 = "", s2997 = "", s2998 = "", s2999 = "";
+
+    public TestObject11(){
+
+    }
+}
@@ -0,0 +1,14 @@
+package TestSuite;
+
+public class TestObject7 {
+    public static int instances;
+    public transient int cached;
+    @Rename("fullName")
+    public String name;
+    @DoNotSerialize
+    public String password;
+
+    public TestObject7(){
+
+    }
+}
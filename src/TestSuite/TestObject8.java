@@ -0,0 +1,21 @@
+package TestSuite;
+
+public class TestObject8 {
+    public double ratio;
+    public float scale;
+    public char grade;
+    public boolean active;
+    private int count;
+
+    public TestObject8(){
+
+    }
+
+    public int getCount(){
+        return count;
+    }
+
+    public void setCount(int count){
+        this.count = count;
+    }
+}
@@ -0,0 +1,16 @@
+package TestSuite;
+
+import java.util.List;
+import java.util.Map;
+
+public class TestObject9 {
+    public Apple apple;
+    public Apple[] basket;
+    public double[] position;
+    public List<Integer> scores;
+    public Map<String, Integer> counts;
+
+    public TestObject9(){
+
+    }
+}